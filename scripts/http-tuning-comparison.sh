@@ -0,0 +1,32 @@
+#!/usr/bin/env sh
+# Compara RPS y percentiles con el servidor sin ajustes (HTTP/1.1, sin compresión) frente a h2c + compresión,
+# usando el harness en memoria de ./gradlew loadTest. Resultados en build/load-test/{baseline,tuned}.json.
+# Uso: scripts/http-tuning-comparison.sh [rate] [scenarios]
+set -eu
+
+RATE="${1:-2000}"
+SCENARIOS="${2:-by-ids,by-ids-get,check-exists,list}"
+OUT="build/load-test"
+
+./gradlew loadTest \
+  -Dloadtest.rate="$RATE" -Dloadtest.scenarios="$SCENARIOS" \
+  -Dloadtest.output="$OUT/baseline.json" \
+  -Dloadtest.client.protocol=http11 -Dloadtest.client.compression=false \
+  -Dserver.http2.enabled=false -Dserver.compression.enabled=false
+
+./gradlew loadTest \
+  -Dloadtest.rate="$RATE" -Dloadtest.scenarios="$SCENARIOS" \
+  -Dloadtest.output="$OUT/tuned.json" \
+  -Dloadtest.client.protocol=h2c -Dloadtest.client.compression=true \
+  -Dserver.http2.enabled=true -Dserver.compression.enabled=true
+
+if command -v jq > /dev/null 2>&1; then
+  for run in baseline tuned; do
+    echo "== ${run}"
+    jq -r '.scenarios | to_entries[]
+      | "\(.key): \(.value.rps) req/s p50=\(.value.latencyMicros.p50)us p99=\(.value.latencyMicros.p99)us p999=\(.value.latencyMicros.p999)us failed=\(.value.failed) dropped=\(.value.dropped)"' \
+      "$OUT/${run}.json"
+  done
+else
+  echo "Results in $OUT/baseline.json and $OUT/tuned.json"
+fi
@@ -0,0 +1,44 @@
+#!/usr/bin/env sh
+# Compara tiempo hasta /actuator/health UP y RSS entre el jar (JVM) y la imagen nativa.
+# Requiere la base configurada en application.properties y GraalVM 21 para nativeCompile.
+# Uso: scripts/startup-comparison.sh [runs]
+set -eu
+
+RUNS="${1:-5}"
+PORT="${PORT:-8080}"
+HEALTH_URL="http://localhost:${PORT}/actuator/health"
+JAR="$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)"
+NATIVE="build/native/nativeCompile/technology-api"
+
+now_ms() {
+  date +%s%3N
+}
+
+measure() {
+  label="$1"
+  shift
+  total=0
+  i=1
+  while [ "$i" -le "$RUNS" ]; do
+    start="$(now_ms)"
+    "$@" --server.port="$PORT" > /dev/null 2>&1 &
+    pid=$!
+    until curl -fs "$HEALTH_URL" > /dev/null 2>&1; do
+      sleep 0.05
+    done
+    ready="$(now_ms)"
+    rss_kb="$(ps -o rss= -p "$pid" | tr -d ' ')"
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    elapsed=$((ready - start))
+    total=$((total + elapsed))
+    echo "${label} run ${i}: ready in ${elapsed} ms, RSS $((rss_kb / 1024)) MB"
+    i=$((i + 1))
+  done
+  echo "${label} average: $((total / RUNS)) ms"
+}
+
+./gradlew bootJar nativeCompile
+
+measure jvm java -jar "$JAR"
+measure native "$NATIVE"
@@ -0,0 +1,96 @@
+package com.example.resilient_api.benchmark;
+
+import com.example.resilient_api.domain.enums.TechnicalMessage;
+import com.example.resilient_api.domain.model.TechnologyExistence;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyDTO;
+import com.example.resilient_api.infrastructure.entrypoints.serializer.TechnologyExistenceSerializer;
+import com.example.resilient_api.infrastructure.entrypoints.util.APIResponse;
+import com.example.resilient_api.infrastructure.entrypoints.util.ErrorDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100", "10000"})
+    private int size;
+
+    // Mismo mapper con el factory de cada formato negociable en las rutas internas
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private APIResponse apiResponse;
+    private List<TechnologyDTO> technologies;
+    private TechnologyExistence technologyExistence;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper(createFactory())
+                .registerModule(new SimpleModule()
+                        .addSerializer(TechnologyExistence.class, new TechnologyExistenceSerializer()));
+        apiResponse = APIResponse.builder()
+                .code(TechnicalMessage.INVALID_PARAMETERS.getCode())
+                .message(TechnicalMessage.INVALID_PARAMETERS.getMessage())
+                .identifier("benchmark")
+                .date(Instant.now().toString())
+                .errors(List.of(ErrorDTO.builder()
+                        .code(TechnicalMessage.TECHNOLOGY_ALREADY_EXISTS.getCode())
+                        .message(TechnicalMessage.TECHNOLOGY_ALREADY_EXISTS.getMessage())
+                        .param(TechnicalMessage.TECHNOLOGY_ALREADY_EXISTS.getParam())
+                        .build()))
+                .build();
+        technologies = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> TechnologyDTO.builder()
+                        .id(id)
+                        .name("Technology " + id)
+                        .build())
+                .toList();
+        BitSet existing = new BitSet(size);
+        existing.set(0, size / 2);
+        technologyExistence = new TechnologyExistence(LongStream.rangeClosed(1, size).toArray(), existing);
+    }
+
+    private JsonFactory createFactory() {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+
+    @Benchmark
+    public byte[] serializeApiResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(apiResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeTechnologyList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(technologies);
+    }
+
+    @Benchmark
+    public byte[] serializeTechnologyExistence() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(technologyExistence);
+    }
+}
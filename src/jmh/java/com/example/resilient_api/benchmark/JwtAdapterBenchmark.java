@@ -0,0 +1,89 @@
+package com.example.resilient_api.benchmark;
+
+import com.example.resilient_api.application.config.ExecutionMode;
+import com.example.resilient_api.domain.model.JwtPayload;
+import com.example.resilient_api.infrastructure.adapters.security.JwtAdapter;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAdapterBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWT2026ThisIsA32CharacterKeyMinimumForHS256Algorithm";
+    private static final int CONCURRENT_TOKENS = 64;
+
+    // 0 desactiva en la práctica la cache de tokens verificados
+    @Param({"0", "10000"})
+    private long cacheMaxSize;
+
+    @Param({"INLINE", "BOUNDED_ELASTIC", "VIRTUAL_THREADS"})
+    private ExecutionMode executionMode;
+
+    private Scheduler scheduler;
+    private JwtAdapter jwtAdapter;
+    private String token;
+    private List<String> concurrentTokens;
+
+    @Setup
+    public void setUp() {
+        scheduler = executionMode.createScheduler();
+        jwtAdapter = new JwtAdapter(SECRET, cacheMaxSize, Duration.ofMinutes(15), new SimpleMeterRegistry(),
+                scheduler);
+        token = buildToken(1L);
+        concurrentTokens = IntStream.rangeClosed(1, CONCURRENT_TOKENS)
+                .mapToObj(this::buildToken)
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Benchmark
+    public JwtPayload validateAndExtractPayload() {
+        return jwtAdapter.validateAndExtractPayload(token).block();
+    }
+
+    // Simula una ráfaga de peticiones autenticadas en un mismo event loop: en modo INLINE
+    // las verificaciones se serializan en el hilo llamador, en los otros modos se reparten
+    @Benchmark
+    public List<JwtPayload> validateConcurrentBurst() {
+        return Flux.fromIterable(concurrentTokens)
+                .flatMap(jwtAdapter::validateAndExtractPayload, CONCURRENT_TOKENS)
+                .collectList()
+                .block();
+    }
+
+    private String buildToken(long userId) {
+        return Jwts.builder()
+                .subject("benchmark" + userId + "@example.com")
+                .claim("userId", userId)
+                .claim("isAdmin", true)
+                .expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.resilient_api.benchmark;
+
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyEntity;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.mapper.TechnologyEntityMapper;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyDTO;
+import com.example.resilient_api.infrastructure.entrypoints.mapper.TechnologyMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private TechnologyMapper technologyMapper;
+    private TechnologyEntityMapper technologyEntityMapper;
+    private Technology technology;
+    private TechnologyEntity technologyEntity;
+    private TechnologyDTO technologyDTO;
+
+    @Setup
+    public void setUp() {
+        technologyMapper = Mappers.getMapper(TechnologyMapper.class);
+        technologyEntityMapper = Mappers.getMapper(TechnologyEntityMapper.class);
+        technology = new Technology(1L, "Java", "Object oriented programming language");
+        technologyEntity = new TechnologyEntity(1L, "Java", "Object oriented programming language");
+        technologyDTO = TechnologyDTO.builder()
+                .id(1L)
+                .name("Java")
+                .description("Object oriented programming language")
+                .build();
+    }
+
+    @Benchmark
+    public Technology entityToModel() {
+        return technologyEntityMapper.toModel(technologyEntity);
+    }
+
+    @Benchmark
+    public TechnologyEntity modelToEntity() {
+        return technologyEntityMapper.toEntity(technology);
+    }
+
+    @Benchmark
+    public Technology dtoToModel() {
+        return technologyMapper.technologyDTOToTechnology(technologyDTO);
+    }
+
+    @Benchmark
+    public TechnologyDTO modelToSummaryDto() {
+        return technologyMapper.technologyToTechnologySummaryDTO(technology);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.resilient_api.benchmark;
+
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyExistence;
+import com.example.resilient_api.domain.usecase.TechnologyUseCase;
+import com.example.resilient_api.loadtest.InMemoryTechnologyPersistencePort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TechnologyUseCaseBenchmark {
+
+    @Param({"10", "100", "10000"})
+    private int size;
+
+    private TechnologyUseCase technologyUseCase;
+    private long[] idArray;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() {
+        InMemoryTechnologyPersistencePort persistencePort = new InMemoryTechnologyPersistencePort();
+        // La mitad de los ids solicitados existen (el store asigna ids 1..size/2 en orden de inserción)
+        persistencePort.saveAllIgnoringConflicts(LongStream.rangeClosed(1, size / 2)
+                        .mapToObj(id -> new Technology(null, "Technology " + id, "Description " + id))
+                        .toList())
+                .blockLast();
+        technologyUseCase = new TechnologyUseCase(persistencePort);
+        idArray = LongStream.rangeClosed(1, size).toArray();
+        ids = LongStream.of(idArray).boxed().toList();
+    }
+
+    @Benchmark
+    public TechnologyExistence checkTechnologiesExist() {
+        return technologyUseCase.checkTechnologiesExist(idArray, "benchmark").block();
+    }
+
+    @Benchmark
+    public List<Technology> getTechnologiesByIds() {
+        return technologyUseCase.getTechnologiesByIds(ids, "benchmark").collectList().block();
+    }
+}
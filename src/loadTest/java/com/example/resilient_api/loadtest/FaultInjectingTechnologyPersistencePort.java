@@ -0,0 +1,93 @@
+package com.example.resilient_api.loadtest;
+
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.model.TechnologyReferenceCount;
+import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Simula la latencia de la base de datos y una fracción de fallos del driver sobre el almacenamiento en memoria
+public class FaultInjectingTechnologyPersistencePort implements TechnologyPersistencePort {
+
+    private final TechnologyPersistencePort delegate;
+    private final Duration latency;
+    private final double errorRate;
+
+    public FaultInjectingTechnologyPersistencePort(TechnologyPersistencePort delegate, Duration latency,
+                                                   double errorRate) {
+        this.delegate = delegate;
+        this.latency = latency;
+        this.errorRate = errorRate;
+    }
+
+    @Override
+    public Mono<Technology> saveIfNameAbsent(Technology technology) {
+        return inject(delegate.saveIfNameAbsent(technology));
+    }
+
+    @Override
+    public Flux<Long> findExistingIdsByIds(long[] ids) {
+        return inject(delegate.findExistingIdsByIds(ids));
+    }
+
+    @Override
+    public Flux<Technology> findAllByIdIn(List<Long> ids) {
+        return inject(delegate.findAllByIdIn(ids));
+    }
+
+    @Override
+    public Flux<Technology> findPage(TechnologyPageQuery query, int limit) {
+        return inject(delegate.findPage(query, limit));
+    }
+
+    @Override
+    public Flux<Long> deleteAllByIdIn(List<Long> ids) {
+        return inject(delegate.deleteAllByIdIn(ids));
+    }
+
+    @Override
+    public Flux<String> findExistingNames(List<String> names) {
+        return inject(delegate.findExistingNames(names));
+    }
+
+    @Override
+    public Flux<Technology> saveAllIgnoringConflicts(List<Technology> technologies) {
+        return inject(delegate.saveAllIgnoringConflicts(technologies));
+    }
+
+    @Override
+    public Flux<TechnologyReferenceCount> applyReferenceDeltas(Map<Long, Integer> deltasById) {
+        return inject(delegate.applyReferenceDeltas(deltasById));
+    }
+
+    @Override
+    public Mono<Long> findCatalogVersion() {
+        return inject(delegate.findCatalogVersion());
+    }
+
+    private <T> Mono<T> inject(Mono<T> source) {
+        return delay().then(Mono.defer(() -> shouldFail() ? Mono.<T>error(injectedFault()) : source));
+    }
+
+    private <T> Flux<T> inject(Flux<T> source) {
+        return delay().thenMany(Flux.defer(() -> shouldFail() ? Flux.<T>error(injectedFault()) : source));
+    }
+
+    private Mono<Void> delay() {
+        return latency.isZero() ? Mono.empty() : Mono.delay(latency).then();
+    }
+
+    private boolean shouldFail() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    private static IllegalStateException injectedFault() {
+        return new IllegalStateException("Injected persistence fault");
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.resilient_api.loadtest;
+
+import com.example.resilient_api.domain.model.TechnologyChange;
+import com.example.resilient_api.domain.spi.TechnologyChangePort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Sin base de datos no hay historial ni LISTEN/NOTIFY: el stream de cambios queda vacío
+public class InMemoryTechnologyChangePort implements TechnologyChangePort {
+
+    @Override
+    public Flux<TechnologyChange> findChangesAfter(long seq) {
+        return Flux.empty();
+    }
+
+    @Override
+    public Mono<Long> findLastSeq() {
+        return Mono.just(0L);
+    }
+
+    @Override
+    public Mono<Long> findFirstSeq() {
+        return Mono.just(0L);
+    }
+
+    @Override
+    public Flux<TechnologyChange> listenChanges() {
+        return Flux.never();
+    }
+}
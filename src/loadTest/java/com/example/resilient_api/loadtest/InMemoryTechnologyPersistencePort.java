@@ -0,0 +1,120 @@
+package com.example.resilient_api.loadtest;
+
+import com.example.resilient_api.domain.enums.TechnologySortField;
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.model.TechnologyReferenceCount;
+import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+// Stand-in en memoria del adaptador R2DBC, compartido por los benchmarks JMH y el perfil loadtest
+public class InMemoryTechnologyPersistencePort implements TechnologyPersistencePort {
+
+    private final Map<Long, Technology> technologies = new ConcurrentHashMap<>();
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> refCounts = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong catalogVersion = new AtomicLong(1);
+
+    @Override
+    public Mono<Technology> saveIfNameAbsent(Technology technology) {
+        // Igual que ON CONFLICT (name) DO NOTHING: se reserva el nombre de forma atómica
+        return Mono.fromSupplier(() -> {
+            long id = sequence.incrementAndGet();
+            if (idsByName.putIfAbsent(technology.name(), id) != null) {
+                return null;
+            }
+            Technology saved = new Technology(id, technology.name(), technology.description());
+            technologies.put(id, saved);
+            catalogVersion.incrementAndGet();
+            return saved;
+        });
+    }
+
+    @Override
+    public Flux<Long> findExistingIdsByIds(long[] ids) {
+        return Flux.fromStream(LongStream.of(ids)
+                .filter(technologies::containsKey)
+                .boxed());
+    }
+
+    @Override
+    public Flux<Technology> findAllByIdIn(List<Long> ids) {
+        return Flux.fromIterable(ids)
+                .map(technologies::get)
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public Flux<Technology> findPage(TechnologyPageQuery query, int limit) {
+        String prefix = query.namePrefix() != null ? query.namePrefix() : "";
+        Comparator<Technology> order = query.sort() == TechnologySortField.NAME
+                ? Comparator.comparing(Technology::name)
+                : Comparator.comparing(Technology::id);
+        return Flux.fromStream(technologies.values().stream()
+                .filter(technology -> technology.name().startsWith(prefix))
+                .filter(technology -> query.sort() == TechnologySortField.NAME
+                        ? query.afterName() == null || technology.name().compareTo(query.afterName()) > 0
+                        : query.afterId() == null || technology.id() > query.afterId())
+                .sorted(order)
+                .limit(limit));
+    }
+
+    @Override
+    public Flux<Long> deleteAllByIdIn(List<Long> ids) {
+        return Flux.fromIterable(ids)
+                .filter(this::remove);
+    }
+
+    @Override
+    public Flux<String> findExistingNames(List<String> names) {
+        return Flux.fromIterable(names)
+                .filter(idsByName::containsKey);
+    }
+
+    @Override
+    public Flux<Technology> saveAllIgnoringConflicts(List<Technology> technologies) {
+        return Flux.fromIterable(technologies)
+                .concatMap(this::saveIfNameAbsent);
+    }
+
+    @Override
+    public Flux<TechnologyReferenceCount> applyReferenceDeltas(Map<Long, Integer> deltasById) {
+        return Flux.fromIterable(deltasById.entrySet())
+                .filter(delta -> technologies.containsKey(delta.getKey()))
+                .map(delta -> {
+                    int[] previous = new int[1];
+                    int refCount = refCounts.compute(delta.getKey(), (id, current) -> {
+                        previous[0] = current != null ? current : 0;
+                        return Math.max(previous[0] + delta.getValue(), 0);
+                    });
+                    return new TechnologyReferenceCount(delta.getKey(), refCount,
+                            previous[0] > 0 && refCount == 0 && remove(delta.getKey()));
+                });
+    }
+
+    @Override
+    public Mono<Long> findCatalogVersion() {
+        return Mono.fromSupplier(catalogVersion::get);
+    }
+
+    private boolean remove(Long id) {
+        Technology removed = technologies.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        idsByName.remove(removed.name());
+        refCounts.remove(id);
+        catalogVersion.incrementAndGet();
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.resilient_api.loadtest;
+
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.spi.TechnologyChangePort;
+import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+// Sustituye a PersistenceConfig: mismo nombre de beans, de modo que cache, coalescing y métricas se mantienen
+@Configuration
+@Profile("loadtest")
+public class LoadTestPersistenceConfig {
+
+    @Bean
+    public TechnologyPersistencePort technologyStorePort(@Value("${loadtest.persistence.seed-size}") int seedSize,
+                                                         @Value("${loadtest.persistence.latency}") Duration latency,
+                                                         @Value("${loadtest.persistence.error-rate}") double errorRate) {
+        InMemoryTechnologyPersistencePort store = new InMemoryTechnologyPersistencePort();
+        // Ids 1..seedSize, que son los que usa LoadTestRunner para construir las listas de ids
+        store.saveAllIgnoringConflicts(IntStream.rangeClosed(1, seedSize)
+                        .mapToObj(i -> new Technology(null, "technology-" + i, "Seeded technology " + i))
+                        .toList())
+                .blockLast();
+        return new FaultInjectingTechnologyPersistencePort(store, latency, errorRate);
+    }
+
+    @Bean
+    public TechnologyChangePort technologyChangePort() {
+        return new InMemoryTechnologyChangePort();
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.resilient_api.loadtest;
+
+import com.example.resilient_api.ResilientApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+// Arranca la aplicación con el perfil loadtest en un puerto aleatorio y lanza carga en bucle abierto contra cada ruta.
+// La latencia se mide desde el instante planificado de cada petición (no desde que sale), para no ocultar
+// las colas cuando el servidor se satura. Uso: ./gradlew loadTest -Dloadtest.rate=1000 -Dloadtest.scenarios=by-ids
+@Slf4j
+public class LoadTestRunner {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final WebClient webClient;
+    private final List<String> tokens;
+    private final int seedSize;
+    private final int rate;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int minIds;
+    private final int maxIds;
+    private final String clientProtocol;
+    private final boolean clientCompression;
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong createdNames = new AtomicLong();
+
+    LoadTestRunner(Environment environment) {
+        this.seedSize = environment.getRequiredProperty("loadtest.persistence.seed-size", Integer.class);
+        this.rate = environment.getRequiredProperty("loadtest.rate", Integer.class);
+        this.concurrency = environment.getRequiredProperty("loadtest.concurrency", Integer.class);
+        this.warmup = environment.getRequiredProperty("loadtest.warmup", Duration.class);
+        this.duration = environment.getRequiredProperty("loadtest.duration", Duration.class);
+        this.minIds = environment.getRequiredProperty("loadtest.ids.min", Integer.class);
+        this.maxIds = Math.min(environment.getRequiredProperty("loadtest.ids.max", Integer.class), seedSize);
+        this.clientProtocol = environment.getRequiredProperty("loadtest.client.protocol");
+        this.clientCompression = environment.getRequiredProperty("loadtest.client.compression", Boolean.class);
+        this.tokens = buildTokens(environment.getRequiredProperty("jwt.secret"),
+                environment.getRequiredProperty("loadtest.jwt.users", Integer.class));
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("loadtest")
+                .maxConnections(concurrency)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        // h2c con prior knowledge frente a HTTP/1.1, y con o sin Accept-Encoding, para comparar ejecuciones
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol("h2c".equals(clientProtocol) ? HttpProtocol.H2C : HttpProtocol.HTTP11)
+                .compress(clientCompression);
+        this.webClient = WebClient.builder()
+                .baseUrl("http://localhost:" + environment.getRequiredProperty("local.server.port"))
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    public static void main(String[] args) throws IOException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ResilientApiApplication.class)
+                .sources(LoadTestPersistenceConfig.class)
+                .profiles("loadtest")
+                .run(args)) {
+            Environment environment = context.getEnvironment();
+            LoadTestRunner runner = new LoadTestRunner(environment);
+            List<String> scenarios = Arrays.stream(environment.getRequiredProperty("loadtest.scenarios").split(","))
+                    .map(String::trim)
+                    .filter(scenario -> !scenario.isEmpty())
+                    .toList();
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            for (String scenario : scenarios) {
+                results.put(scenario, runner.runScenario(scenario));
+            }
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("startedAt", Instant.now().toString());
+            report.put("config", runner.describeConfig(environment));
+            report.put("scenarios", results);
+
+            Path output = Path.of(environment.getRequiredProperty("loadtest.output"));
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            context.getBean(ObjectMapper.class).copy()
+                    .enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(output.toFile(), report);
+            log.info("Load test results written to {}", output.toAbsolutePath());
+        }
+    }
+
+    private Map<String, Object> runScenario(String scenario) {
+        log.info("Load test scenario {}: warmup {} then {} at {} req/s (concurrency {})",
+                scenario, warmup, duration, rate, concurrency);
+        drive(scenario, warmup);
+        Map<String, Object> result = drive(scenario, duration);
+        log.info("Load test scenario {} finished: {}", scenario, result);
+        return result;
+    }
+
+    private Map<String, Object> drive(String scenario, Duration window) {
+        Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        AtomicLong failed = new AtomicLong();
+        AtomicLong dropped = new AtomicLong();
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long ticks = window.toNanos() / periodNanos;
+        long startNanos = System.nanoTime();
+
+        Flux.interval(Duration.ofNanos(periodNanos))
+                .take(ticks)
+                // Si ya hay "concurrency" peticiones en vuelo el tick se descarta y se contabiliza
+                .onBackpressureDrop(tick -> dropped.incrementAndGet())
+                .flatMap(tick -> {
+                    long intendedStartNanos = startNanos + (tick + 1) * periodNanos;
+                    return send(scenario)
+                            .onErrorReturn(false)
+                            .doOnNext(success -> {
+                                long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+                                histogram.recordValue(Math.min(Math.max(latencyMicros, 0), HIGHEST_TRACKABLE_MICROS));
+                                if (!success) {
+                                    failed.incrementAndGet();
+                                }
+                            });
+                }, concurrency)
+                .blockLast();
+
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000d;
+        return summarize(histogram, failed.get(), dropped.get(), elapsedSeconds);
+    }
+
+    private Mono<Boolean> send(String scenario) {
+        return switch (scenario) {
+            case "list" -> exchange(webClient.get().uri("/technology?size=20"));
+            case "by-id" -> exchange(webClient.get().uri("/technology/{id}", randomId()));
+            case "by-ids-get" -> exchange(webClient.get().uri(uriBuilder -> uriBuilder.path("/technology/by-ids")
+                    .queryParam("ids", randomIds().stream().map(String::valueOf).collect(Collectors.joining(",")))
+                    .build()));
+            case "by-ids" -> exchange(post("/technology/by-ids").bodyValue(Map.of("ids", randomIds())));
+            case "check-exists" -> exchange(post("/technology/check-exists").bodyValue(Map.of("ids", randomIds())));
+            case "references-increment" ->
+                    exchange(post("/technology/references/increment").bodyValue(Map.of("ids", randomIds())));
+            case "references-decrement" ->
+                    exchange(post("/technology/references/decrement").bodyValue(Map.of("ids", randomIds())));
+            case "decrement-references" ->
+                    exchange(post("/technology/decrement-references").bodyValue(Map.of("ids", randomIds())));
+            case "create" -> exchange(post("/technology").bodyValue(Map.of(
+                    "name", "lt-" + runId + "-" + createdNames.incrementAndGet(),
+                    "description", "Load test technology")));
+            default -> Mono.error(new IllegalArgumentException("Unknown load test scenario: " + scenario));
+        };
+    }
+
+    private WebClient.RequestBodySpec post(String path) {
+        return webClient.method(HttpMethod.POST).uri(path).contentType(MediaType.APPLICATION_JSON);
+    }
+
+    private Mono<Boolean> exchange(WebClient.RequestHeadersSpec<?> request) {
+        return request
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get(ThreadLocalRandom.current().nextInt(tokens.size())))
+                .header("x-message-id", UUID.randomUUID().toString())
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(response.statusCode().is2xxSuccessful()));
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, seedSize + 1L);
+    }
+
+    // Tamaños log-uniformes entre min y max: la mayoría de listas son cortas, con una cola de listas largas
+    private List<Long> randomIds() {
+        int size = maxIds;
+        if (minIds < maxIds) {
+            double logSize = ThreadLocalRandom.current().nextDouble(Math.log(minIds), Math.log(maxIds));
+            size = (int) Math.max(minIds, Math.min(maxIds, Math.round(Math.exp(logSize))));
+        }
+        return LongStream.generate(this::randomId)
+                .limit(size)
+                .boxed()
+                .toList();
+    }
+
+    private static Map<String, Object> summarize(Histogram histogram, long failed, long dropped, double elapsedSeconds) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            latency.put("p" + formatPercentile(percentile), histogram.getValueAtPercentile(percentile));
+        }
+        latency.put("max", histogram.getMaxValue());
+        latency.put("mean", Math.round(histogram.getMean()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", histogram.getTotalCount());
+        result.put("failed", failed);
+        result.put("dropped", dropped);
+        result.put("rps", Math.round(histogram.getTotalCount() / elapsedSeconds * 10) / 10d);
+        result.put("latencyMicros", latency);
+        return result;
+    }
+
+    private static String formatPercentile(double percentile) {
+        // 99.9 -> "999", 50 -> "50"
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((int) percentile)
+                : String.valueOf(percentile).replace(".", "");
+    }
+
+    private Map<String, Object> describeConfig(Environment environment) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("rate", rate);
+        config.put("concurrency", concurrency);
+        config.put("warmup", warmup.toString());
+        config.put("duration", duration.toString());
+        config.put("idsMin", minIds);
+        config.put("idsMax", maxIds);
+        config.put("seedSize", seedSize);
+        config.put("clientProtocol", clientProtocol);
+        config.put("clientCompression", clientCompression);
+        config.put("serverEventLoopThreads", environment.getProperty("technology.server.event-loop-threads"));
+        config.put("serverCompression", environment.getProperty("server.compression.enabled"));
+        config.put("persistenceLatency", environment.getRequiredProperty("loadtest.persistence.latency"));
+        config.put("persistenceErrorRate", environment.getRequiredProperty("loadtest.persistence.error-rate"));
+        config.put("executionMode", environment.getProperty("technology.execution.mode"));
+        return config;
+    }
+
+    private static List<String> buildTokens(String secret, int users) {
+        // Un token por usuario simulado, todos admin para poder ejercitar POST /technology
+        return IntStream.rangeClosed(1, users)
+                .mapToObj(userId -> Jwts.builder()
+                        .subject("loadtest" + userId + "@example.com")
+                        .claim("userId", (long) userId)
+                        .claim("isAdmin", true)
+                        .expiration(Date.from(Instant.now().plus(Duration.ofHours(2))))
+                        .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                        .compact())
+                .toList();
+    }
+}
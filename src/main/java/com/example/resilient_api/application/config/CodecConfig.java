@@ -0,0 +1,35 @@
+package com.example.resilient_api.application.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.codec.smile.Jackson2SmileDecoder;
+import org.springframework.http.codec.smile.Jackson2SmileEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class CodecConfig implements WebFluxConfigurer {
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    // Codecs binarios para el tráfico interno (capacity-api); JSON sigue siendo el formato por defecto.
+    // Los mappers salen del builder de Boot para conservar módulos y serializadores (@JsonComponent)
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        ObjectMapper cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+
+        configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(cborMapper));
+        configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborEncoder(cborMapper));
+        // Smile ya viene entre los codecs por defecto; se reemplaza para usar el mapper configurado
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper));
+        configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper));
+    }
+}
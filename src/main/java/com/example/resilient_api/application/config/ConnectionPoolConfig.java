@@ -0,0 +1,40 @@
+package com.example.resilient_api.application.config;
+
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.pool.ConnectionPoolHealthIndicator;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.pool.TimedConnectionFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("!loadtest")
+public class ConnectionPoolConfig {
+
+    // Envuelve el pool para medir la latencia de adquisición; los gauges acquired/idle/pending
+    // los publica el auto-configuration de actuator sobre el mismo ConnectionPool
+    @Bean
+    public static BeanPostProcessor timedConnectionFactoryPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ConnectionPool connectionPool) {
+                    return new TimedConnectionFactory(connectionPool, beanName, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public ConnectionPoolHealthIndicator r2dbcPoolHealthIndicator(
+            ConnectionFactory connectionFactory,
+            @Value("${technology.r2dbc.pool.pending-acquire-threshold}") int pendingAcquireThreshold) {
+        return new ConnectionPoolHealthIndicator(connectionFactory, pendingAcquireThreshold);
+    }
+}
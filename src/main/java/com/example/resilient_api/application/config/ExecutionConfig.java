@@ -0,0 +1,20 @@
+package com.example.resilient_api.application.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+
+@Configuration
+@Slf4j
+public class ExecutionConfig {
+
+    // Scheduler para el trabajo bloqueante o intensivo en CPU (verificación HMAC y parseo de JWT),
+    // para no ocupar los hilos del event loop de Netty
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingWorkScheduler(@Value("${technology.execution.mode}") ExecutionMode executionMode) {
+        log.info("Blocking work execution mode: {}", executionMode);
+        return executionMode.createScheduler();
+    }
+}
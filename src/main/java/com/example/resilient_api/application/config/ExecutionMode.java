@@ -0,0 +1,30 @@
+package com.example.resilient_api.application.config;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+public enum ExecutionMode {
+    // En el mismo hilo del event loop (comportamiento anterior)
+    INLINE,
+    // Pool acotado de hilos de plataforma dedicado a este servicio
+    BOUNDED_ELASTIC,
+    // Un hilo virtual por tarea (Java 21)
+    VIRTUAL_THREADS;
+
+    private static final String SCHEDULER_NAME = "technology-blocking";
+
+    public Scheduler createScheduler() {
+        return switch (this) {
+            case INLINE -> Schedulers.immediate();
+            case BOUNDED_ELASTIC -> Schedulers.newBoundedElastic(
+                    Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                    Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+                    SCHEDULER_NAME);
+            case VIRTUAL_THREADS -> Schedulers.fromExecutorService(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(SCHEDULER_NAME + "-", 0).factory()),
+                    SCHEDULER_NAME);
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.resilient_api.application.config;
+
+import com.example.resilient_api.infrastructure.adapters.idempotency.IdempotencyStore;
+import com.example.resilient_api.infrastructure.adapters.idempotency.InMemoryIdempotencyStore;
+import com.example.resilient_api.infrastructure.adapters.idempotency.PostgresIdempotencyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+// technology.idempotency.store: memory (por réplica) o postgres (tabla idempotent_responses, compartida)
+@Configuration
+public class IdempotencyConfig {
+
+    private static final String STORE_PROPERTY = "technology.idempotency.store";
+
+    @Bean
+    @ConditionalOnProperty(name = STORE_PROPERTY, havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(@Value("${technology.idempotency.max-entries}") long maxEntries,
+                                                     @Value("${technology.idempotency.ttl}") Duration ttl) {
+        return new InMemoryIdempotencyStore(maxEntries, ttl);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = STORE_PROPERTY, havingValue = "postgres")
+    public IdempotencyStore postgresIdempotencyStore(DatabaseClient databaseClient,
+                                                     @Value("${technology.idempotency.max-entries}") long maxEntries,
+                                                     @Value("${technology.idempotency.ttl}") Duration ttl,
+                                                     @Value("${technology.idempotency.in-flight-timeout}") Duration claimTimeout) {
+        return new PostgresIdempotencyStore(databaseClient, new InMemoryIdempotencyStore(maxEntries, ttl), ttl,
+                claimTimeout);
+    }
+}
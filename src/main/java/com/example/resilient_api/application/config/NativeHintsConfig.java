@@ -0,0 +1,9 @@
+package com.example.resilient_api.application.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+@Configuration
+@ImportRuntimeHints(TechnologyRuntimeHints.class)
+public class NativeHintsConfig {
+}
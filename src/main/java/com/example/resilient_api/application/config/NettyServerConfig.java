@@ -0,0 +1,38 @@
+package com.example.resilient_api.application.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
+
+// Ajustes del servidor Reactor Netty que no tienen propiedad server.* en Spring Boot.
+// h2c, keep-alive, idle timeout, límites de cabeceras y compresión se configuran en application.properties
+@Configuration
+@Slf4j
+public class NettyServerConfig {
+
+    // Event loops propios del servidor, separados de los del cliente R2DBC y de WebClient
+    @Bean(destroyMethod = "dispose")
+    public LoopResources serverLoopResources(@Value("${technology.server.event-loop-threads}") int eventLoopThreads) {
+        // 0 = valor por defecto de Reactor Netty (un hilo por CPU, mínimo 4)
+        int workerCount = eventLoopThreads > 0 ? eventLoopThreads : LoopResources.DEFAULT_IO_WORKER_COUNT;
+        log.info("HTTP server event loop threads: {}", workerCount);
+        return LoopResources.create("technology-http", 1, workerCount, true);
+    }
+
+    @Bean
+    public NettyServerCustomizer technologyNettyServerCustomizer(LoopResources serverLoopResources,
+                                                                 @Value("${technology.server.backlog}") int backlog,
+                                                                 @Value("${technology.server.http2.max-concurrent-streams}") long maxConcurrentStreams) {
+        return httpServer -> httpServer
+                .runOn(serverLoopResources)
+                .option(ChannelOption.SO_BACKLOG, backlog)
+                .childOption(ChannelOption.SO_KEEPALIVE, true)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                // Peticiones multiplexadas por conexión h2c; el resto esperan a que se libere un stream
+                .http2Settings(settings -> settings.maxConcurrentStreams(maxConcurrentStreams));
+    }
+}
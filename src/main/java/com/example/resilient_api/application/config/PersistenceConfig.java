@@ -0,0 +1,42 @@
+package com.example.resilient_api.application.config;
+
+import com.example.resilient_api.domain.spi.TechnologyChangePort;
+import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.TechnologyChangeAdapter;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.TechnologyPersistenceAdapter;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.mapper.TechnologyChangeEntityMapper;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.mapper.TechnologyEntityMapper;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.repository.TechnologyChangeRepository;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.repository.TechnologyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import java.time.Duration;
+
+// Adaptadores contra PostgreSQL; el perfil loadtest los reemplaza por implementaciones en memoria
+@Configuration
+@Profile("!loadtest")
+public class PersistenceConfig {
+
+    @Bean
+    public TechnologyPersistencePort technologyStorePort(TechnologyRepository technologyRepository,
+                                                         TechnologyEntityMapper technologyEntityMapper,
+                                                         TransactionalOperator transactionalOperator) {
+        return new TechnologyPersistenceAdapter(technologyRepository, technologyEntityMapper, transactionalOperator);
+    }
+
+    @Bean
+    public TechnologyChangePort technologyChangePort(TechnologyChangeRepository technologyChangeRepository,
+                                                     TechnologyChangeEntityMapper technologyChangeEntityMapper,
+                                                     ConnectionFactory connectionFactory,
+                                                     ObjectMapper objectMapper,
+                                                     @Value("${technology.changes.retention}") Duration retention) {
+        return new TechnologyChangeAdapter(technologyChangeRepository, technologyChangeEntityMapper,
+                connectionFactory, objectMapper, retention);
+    }
+}
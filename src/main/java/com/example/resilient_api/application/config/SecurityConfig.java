@@ -30,12 +30,20 @@ public class SecurityConfig {
                         // ===== ENDPOINTS ADMIN (solo isAdmin = true) =====
                         // Crear tecnología - solo admin
                         .pathMatchers(HttpMethod.POST, "/technology").hasRole("ADMIN")
+                        // Registro masivo de tecnologías - solo admin
+                        .pathMatchers(HttpMethod.POST, "/technology/bulk").hasRole("ADMIN")
 
                         // ===== ENDPOINTS PÚBLICOS/INTERNOS (sin autenticación de usuario) =====
                         // Estos endpoints son usados internamente por otros microservicios
                         .pathMatchers(HttpMethod.POST, "/technology/check-exists").permitAll()
                         .pathMatchers(HttpMethod.POST, "/technology/by-ids").permitAll()
                         .pathMatchers(HttpMethod.POST, "/technology/decrement-references").permitAll()
+                        .pathMatchers(HttpMethod.POST, "/technology/references/increment").permitAll()
+                        .pathMatchers(HttpMethod.POST, "/technology/references/decrement").permitAll()
+                        // Listado paginado del catálogo
+                        .pathMatchers(HttpMethod.GET, "/technology").permitAll()
+                        // Lecturas condicionales (ETag) por id y por lista de ids
+                        .pathMatchers(HttpMethod.GET, "/technology/**").permitAll()
 
                         // Por defecto: permitir todo lo demás
                         .anyExchange().permitAll()
@@ -0,0 +1,76 @@
+package com.example.resilient_api.application.config;
+
+import com.example.resilient_api.domain.exceptions.BusinessException;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyChangeEntity;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyEntity;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyReferenceCountEntity;
+import com.example.resilient_api.infrastructure.entrypoints.dto.DeletedTechnologiesDTO;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyChangeDTO;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyDTO;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyIdsRequest;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyPageDTO;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyReferenceCountDTO;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyReferencesDTO;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyRegistrationResultDTO;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologySnapshotDTO;
+import com.example.resilient_api.infrastructure.entrypoints.util.APIResponse;
+import com.example.resilient_api.infrastructure.entrypoints.util.ErrorDTO;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+// Hints para la imagen nativa: lo que el análisis AOT de Spring no descubre por sí solo
+public class TechnologyRuntimeHints implements RuntimeHintsRegistrar {
+
+    // Cuerpos leídos/escritos con Jackson desde rutas funcionales (bodyToMono/bodyValue) y el payload
+    // JSON de NOTIFY, que AOT no puede inferir de firmas de controladores
+    private static final List<Class<?>> JACKSON_BOUND_TYPES = List.of(
+            TechnologyDTO.class,
+            TechnologyIdsRequest.class,
+            DeletedTechnologiesDTO.class,
+            TechnologyRegistrationResultDTO.class,
+            TechnologyPageDTO.class,
+            TechnologyChangeDTO.class,
+            TechnologySnapshotDTO.class,
+            TechnologyReferencesDTO.class,
+            TechnologyReferenceCountDTO.class,
+            APIResponse.class,
+            ErrorDTO.class,
+            TechnologyChangeEntity.class);
+
+    // jjwt-impl se carga por nombre desde jjwt-api (Classes.newInstance) y el serializador JSON por ServiceLoader
+    private static final List<String> JJWT_REFLECTIVE_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+        JACKSON_BOUND_TYPES.forEach(type -> bindingRegistrar.registerReflectionHints(hints.reflection(), type));
+
+        // Mapeo de filas R2DBC a entidades por constructor/setters
+        hints.reflection().registerType(TechnologyEntity.class, MemberCategory.values());
+        hints.reflection().registerType(TechnologyChangeEntity.class, MemberCategory.values());
+        hints.reflection().registerType(TechnologyReferenceCountEntity.class, MemberCategory.values());
+
+        JJWT_REFLECTIVE_TYPES.forEach(type -> hints.reflection().registerTypeIfPresent(classLoader, type,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        // Resilience4j resuelve por nombre las clases de ignore-exceptions de application.yaml
+        hints.reflection().registerType(BusinessException.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    }
+}
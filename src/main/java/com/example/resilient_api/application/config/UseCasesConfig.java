@@ -1,28 +1,62 @@
 package com.example.resilient_api.application.config;
 
+import com.example.resilient_api.domain.api.TechnologyChangeServicePort;
 import com.example.resilient_api.domain.api.TechnologyServicePort;
+import com.example.resilient_api.domain.spi.TechnologyChangePort;
 import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
+import com.example.resilient_api.domain.usecase.TechnologyChangeUseCase;
 import com.example.resilient_api.domain.usecase.TechnologyUseCase;
-import com.example.resilient_api.infrastructure.adapters.persistenceadapter.TechnologyPersistenceAdapter;
-import com.example.resilient_api.infrastructure.adapters.persistenceadapter.mapper.TechnologyEntityMapper;
-import com.example.resilient_api.infrastructure.adapters.persistenceadapter.repository.TechnologyRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.resilient_api.infrastructure.adapters.metrics.TimedTechnologyPersistencePort;
+import com.example.resilient_api.infrastructure.adapters.metrics.TimedTechnologyServicePort;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.CachingTechnologyPersistenceAdapter;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.CoalescingTechnologyPersistenceAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
 
 @Configuration
-@RequiredArgsConstructor
 public class UseCasesConfig {
-    private final TechnologyRepository technologyRepository;
-    private final TechnologyEntityMapper technologyEntityMapper;
+
+    // technologyStorePort es el adaptador de almacenamiento (PersistenceConfig o el de loadtest);
+    // aquí solo se le añaden cache, coalescing y métricas
+    @Bean(initMethod = "start", destroyMethod = "dispose")
+    public CachingTechnologyPersistenceAdapter technologyCachePort(@Qualifier("technologyStorePort") TechnologyPersistencePort technologyStorePort,
+                                                                   MeterRegistry meterRegistry,
+                                                                   TechnologyChangePort technologyChangePort,
+                                                                   @Value("${technology.cache.max-size}") long cacheMaxSize,
+                                                                   @Value("${technology.cache.ttl}") Duration cacheTtl,
+                                                                   @Value("${technology.cache.gap-grace-period}") Duration cacheGapGracePeriod,
+                                                                   @Value("${technology.cache.version-refresh}") Duration cacheVersionRefresh,
+                                                                   @Value("${technology.coalescing.max-batch-size}") int coalescingMaxBatchSize,
+                                                                   @Value("${technology.coalescing.window}") Duration coalescingWindow) {
+        // Los misses de la cache se agrupan en una sola consulta por ventana
+        TechnologyPersistencePort coalescingAdapter = new CoalescingTechnologyPersistenceAdapter(
+                technologyStorePort, coalescingMaxBatchSize, coalescingWindow);
+        return new CachingTechnologyPersistenceAdapter(coalescingAdapter, cacheMaxSize, cacheTtl,
+                technologyChangePort, cacheGapGracePeriod, cacheVersionRefresh, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public TechnologyPersistencePort technologyPersistencePort(CachingTechnologyPersistenceAdapter technologyCachePort,
+                                                               MeterRegistry meterRegistry) {
+        return new TimedTechnologyPersistencePort(technologyCachePort, meterRegistry);
+    }
 
     @Bean
-    public TechnologyPersistencePort technologyPersistencePort() {
-        return new TechnologyPersistenceAdapter(technologyRepository, technologyEntityMapper);
+    public TechnologyServicePort technologyServicePort(TechnologyPersistencePort technologyPersistencePort,
+                                                       MeterRegistry meterRegistry) {
+        return new TimedTechnologyServicePort(new TechnologyUseCase(technologyPersistencePort), meterRegistry);
     }
 
     @Bean
-    public TechnologyServicePort technologyServicePort(TechnologyPersistencePort technologyPersistencePort) {
-        return new TechnologyUseCase(technologyPersistencePort);
+    public TechnologyChangeServicePort technologyChangeServicePort(TechnologyChangePort technologyChangePort,
+                                                                   TechnologyPersistencePort technologyPersistencePort) {
+        return new TechnologyChangeUseCase(technologyChangePort, technologyPersistencePort);
     }
 }
@@ -0,0 +1,12 @@
+package com.example.resilient_api.domain.api;
+
+import com.example.resilient_api.domain.model.TechnologyChange;
+import com.example.resilient_api.domain.model.TechnologySnapshot;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface TechnologyChangeServicePort {
+    Mono<Void> checkResumable(long afterSeq, String messageId);
+    Flux<TechnologyChange> streamChanges(Long afterSeq, String messageId);
+    Mono<TechnologySnapshot> getSnapshot(String messageId);
+}
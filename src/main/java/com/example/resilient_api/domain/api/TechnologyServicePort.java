@@ -1,15 +1,29 @@
 package com.example.resilient_api.domain.api;
 
 import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyExistence;
+import com.example.resilient_api.domain.model.TechnologyPage;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.model.TechnologyReferenceCount;
+import com.example.resilient_api.domain.model.TechnologyRegistrationResult;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
-import java.util.Map;
 
 public interface TechnologyServicePort {
+    // Máximo de tecnologías por registro masivo; los adaptadores de entrada no necesitan leer más allá
+    int MAX_BULK_SIZE = 1000;
+
     Mono<Technology> registerTechnology(Technology technology, String messageId);
-    Mono<Map<Long, Boolean>> checkTechnologiesExist(List<Long> ids, String messageId);
+    Flux<TechnologyRegistrationResult> registerTechnologies(List<Technology> technologies, String messageId);
+    Mono<TechnologyExistence> checkTechnologiesExist(long[] ids, String messageId);
     Flux<Technology> getTechnologiesByIds(List<Long> ids, String messageId);
-    Mono<Void> decrementTechnologyReferences(List<Long> technologyIds, String messageId);
+    Mono<TechnologyPage> listTechnologies(TechnologyPageQuery query, String messageId);
+    // Borrado directo sin ref_count, solo para clientes anteriores a /technology/references/*.
+    // capacity-api debe usar adjustTechnologyReferences (/technology/references/increment y /decrement)
+    @Deprecated
+    Mono<List<Long>> decrementTechnologyReferences(List<Long> technologyIds, String messageId);
+    Mono<List<TechnologyReferenceCount>> adjustTechnologyReferences(List<Long> technologyIds, int delta, String messageId);
+    Mono<Long> getCatalogVersion(String messageId);
 }
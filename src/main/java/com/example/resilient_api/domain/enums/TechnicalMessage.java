@@ -11,12 +11,26 @@ public enum TechnicalMessage {
     INVALID_REQUEST("400", "Bad Request, please verify data", ""),
     INVALID_PARAMETERS(INVALID_REQUEST.getCode(), "Bad Parameters, please verify data", ""),
     UNSUPPORTED_OPERATION("501", "Method not supported, please try again", ""),
+    TOO_MANY_REQUESTS("429", "Too many requests, please try again later", ""),
+    SERVICE_UNAVAILABLE("503", "Service is temporarily overloaded, please try again later", ""),
+    SERVICE_TIMEOUT("503", "The request took too long to complete, please try again later", ""),
     TECHNOLOGY_CREATED("201", "Technology created successfully", ""),
     TECHNOLOGY_ALREADY_EXISTS("400", "Technology with this name already exists", "name"),
     TECHNOLOGY_NAME_REQUIRED("400", "Technology name is required", "name"),
     TECHNOLOGY_DESCRIPTION_REQUIRED("400", "Technology description is required", "description"),
     TECHNOLOGY_NAME_TOO_LONG("400", "Technology name cannot exceed 50 characters", "name"),
     TECHNOLOGY_DESCRIPTION_TOO_LONG("400", "Technology description cannot exceed 90 characters", "description"),
+    TECHNOLOGY_BULK_TOO_LARGE("400", "Bulk registration cannot exceed 1000 technologies", "technologies"),
+    TECHNOLOGY_PAGE_SIZE_INVALID("400", "Page size must be between 1 and 100", "size"),
+    TECHNOLOGY_PAGE_CURSOR_INVALID("400", "Page cursor is invalid", "cursor"),
+    TECHNOLOGY_PAGE_SORT_INVALID("400", "Sort must be one of: id, name", "sort"),
+    TECHNOLOGY_ID_INVALID("400", "Technology id must be numeric", "id"),
+    TECHNOLOGY_IDS_INVALID("400", "Ids must be a comma-separated list of numeric ids", "ids"),
+    TECHNOLOGY_IDS_TOO_MANY("400", "Too many ids in a single request", "ids"),
+    REQUEST_BODY_TOO_LARGE("400", "Request body exceeds the maximum allowed size", "body"),
+    TECHNOLOGY_NOT_FOUND("404", "Technology not found", "id"),
+    TECHNOLOGY_CHANGE_SEQ_INVALID("400", "Change sequence must be numeric", "after"),
+    TECHNOLOGY_CHANGES_EXPIRED("410", "Changes after this sequence are not available, reload from /technology/snapshot", "after"),
     TOKEN_EXPIRED("401", "JWT token has expired", "token"),
     TOKEN_INVALID("401", "JWT token is invalid", "token")
     ;
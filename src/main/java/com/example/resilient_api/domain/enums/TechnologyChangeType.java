@@ -0,0 +1,6 @@
+package com.example.resilient_api.domain.enums;
+
+public enum TechnologyChangeType {
+    CREATED,
+    DELETED
+}
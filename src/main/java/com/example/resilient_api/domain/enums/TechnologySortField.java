@@ -0,0 +1,6 @@
+package com.example.resilient_api.domain.enums;
+
+public enum TechnologySortField {
+    ID,
+    NAME
+}
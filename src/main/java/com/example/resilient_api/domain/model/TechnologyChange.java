@@ -0,0 +1,7 @@
+package com.example.resilient_api.domain.model;
+
+import com.example.resilient_api.domain.enums.TechnologyChangeType;
+
+public record TechnologyChange(long seq, TechnologyChangeType type, Long technologyId, String name,
+                               String description) {
+}
@@ -0,0 +1,31 @@
+package com.example.resilient_api.domain.model;
+
+import java.util.BitSet;
+import java.util.List;
+
+public record TechnologyExistence(long[] ids, BitSet existing) {
+
+    public static TechnologyExistence empty() {
+        return new TechnologyExistence(new long[0], new BitSet(0));
+    }
+
+    // Une resultados parciales (por ejemplo, por bloques de ids) conservando el orden de cada parte
+    public static TechnologyExistence concat(List<TechnologyExistence> parts) {
+        int size = parts.stream().mapToInt(part -> part.ids().length).sum();
+        long[] ids = new long[size];
+        BitSet existing = new BitSet(size);
+        int offset = 0;
+        for (TechnologyExistence part : parts) {
+            System.arraycopy(part.ids(), 0, ids, offset, part.ids().length);
+            for (int index = part.existing().nextSetBit(0); index >= 0; index = part.existing().nextSetBit(index + 1)) {
+                existing.set(offset + index);
+            }
+            offset += part.ids().length;
+        }
+        return new TechnologyExistence(ids, existing);
+    }
+
+    public boolean exists(int index) {
+        return existing.get(index);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.resilient_api.domain.model;
+
+import java.util.List;
+
+public record TechnologyPage(List<Technology> items, boolean hasNext) {
+}
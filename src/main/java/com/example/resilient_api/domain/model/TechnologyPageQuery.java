@@ -0,0 +1,7 @@
+package com.example.resilient_api.domain.model;
+
+import com.example.resilient_api.domain.enums.TechnologySortField;
+
+public record TechnologyPageQuery(String namePrefix, TechnologySortField sort, Long afterId, String afterName,
+                                  int size) {
+}
@@ -0,0 +1,5 @@
+package com.example.resilient_api.domain.model;
+
+// Contador de referencias tras aplicar un ajuste; deleted indica que llegó a cero y la fila se eliminó
+public record TechnologyReferenceCount(Long technologyId, int refCount, boolean deleted) {
+}
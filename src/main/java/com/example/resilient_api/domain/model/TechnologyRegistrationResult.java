@@ -0,0 +1,18 @@
+package com.example.resilient_api.domain.model;
+
+import com.example.resilient_api.domain.enums.TechnicalMessage;
+
+public record TechnologyRegistrationResult(int index, Technology technology, TechnicalMessage error) {
+
+    public static TechnologyRegistrationResult registered(int index, Technology technology) {
+        return new TechnologyRegistrationResult(index, technology, null);
+    }
+
+    public static TechnologyRegistrationResult rejected(int index, Technology technology, TechnicalMessage error) {
+        return new TechnologyRegistrationResult(index, technology, error);
+    }
+
+    public boolean isRegistered() {
+        return error == null;
+    }
+}
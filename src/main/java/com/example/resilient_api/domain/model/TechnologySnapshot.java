@@ -0,0 +1,6 @@
+package com.example.resilient_api.domain.model;
+
+import java.util.List;
+
+public record TechnologySnapshot(long seq, List<Technology> technologies) {
+}
@@ -0,0 +1,12 @@
+package com.example.resilient_api.domain.spi;
+
+import com.example.resilient_api.domain.model.TechnologyChange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface TechnologyChangePort {
+    Flux<TechnologyChange> findChangesAfter(long seq);
+    Mono<Long> findLastSeq();
+    Mono<Long> findFirstSeq();
+    Flux<TechnologyChange> listenChanges();
+}
@@ -1,16 +1,23 @@
 package com.example.resilient_api.domain.spi;
 
 import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.model.TechnologyReferenceCount;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 
 public interface TechnologyPersistencePort {
-    Mono<Technology> save(Technology technology);
-    Mono<Boolean> existByName(String name);
-    Flux<Long> findExistingIdsByIds(List<Long> ids);
+    Mono<Technology> saveIfNameAbsent(Technology technology);
+    Flux<Long> findExistingIdsByIds(long[] ids);
     Flux<Technology> findAllByIdIn(List<Long> ids);
-    Mono<Void> deleteById(Long id);
+    Flux<Technology> findPage(TechnologyPageQuery query, int limit);
+    Flux<Long> deleteAllByIdIn(List<Long> ids);
+    Flux<String> findExistingNames(List<String> names);
+    Flux<Technology> saveAllIgnoringConflicts(List<Technology> technologies);
+    Flux<TechnologyReferenceCount> applyReferenceDeltas(Map<Long, Integer> deltasById);
+    Mono<Long> findCatalogVersion();
 }
 
@@ -0,0 +1,98 @@
+package com.example.resilient_api.domain.usecase;
+
+import com.example.resilient_api.domain.api.TechnologyChangeServicePort;
+import com.example.resilient_api.domain.enums.TechnicalMessage;
+import com.example.resilient_api.domain.enums.TechnologySortField;
+import com.example.resilient_api.domain.exceptions.BusinessException;
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyChange;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.model.TechnologySnapshot;
+import com.example.resilient_api.domain.spi.TechnologyChangePort;
+import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TechnologyChangeUseCase implements TechnologyChangeServicePort {
+
+    private static final int SNAPSHOT_PAGE_SIZE = 1000;
+
+    private final TechnologyChangePort technologyChangePort;
+    private final TechnologyPersistencePort technologyPersistencePort;
+
+    public TechnologyChangeUseCase(TechnologyChangePort technologyChangePort,
+                                   TechnologyPersistencePort technologyPersistencePort) {
+        this.technologyChangePort = technologyChangePort;
+        this.technologyPersistencePort = technologyPersistencePort;
+    }
+
+    @Override
+    public Mono<Void> checkResumable(long afterSeq, String messageId) {
+        // El historial se purga por antigüedad: si falta algún cambio posterior a afterSeq el consumidor
+        // no puede reanudar y debe partir de un snapshot. Un afterSeq posterior al último registrado viene
+        // de otra base (recreada o de otro entorno) y tampoco sirve
+        return Mono.zip(technologyChangePort.findFirstSeq(), technologyChangePort.findLastSeq())
+                .flatMap(range -> (range.getT1() > 0 && afterSeq < range.getT1() - 1) || afterSeq > range.getT2()
+                        ? Mono.<Void>error(new BusinessException(TechnicalMessage.TECHNOLOGY_CHANGES_EXPIRED))
+                        : Mono.empty());
+    }
+
+    @Override
+    public Flux<TechnologyChange> streamChanges(Long afterSeq, String messageId) {
+        // Sin secuencia de reanudación se emiten solo los cambios posteriores a la última registrada
+        Mono<Long> baseline = afterSeq != null
+                ? Mono.just(afterSeq)
+                : technologyChangePort.findLastSeq();
+
+        return baseline.flatMapMany(seq -> {
+            AtomicLong lastSeq = new AtomicLong(seq);
+            // mergeSequential se suscribe a ambos de inmediato: lo que llega en vivo mientras se lee
+            // el historial queda en buffer y se emite después, descartando lo ya enviado
+            return Flux.mergeSequential(technologyChangePort.findChangesAfter(seq), technologyChangePort.listenChanges())
+                    .concatMap(change -> Flux.defer(() -> fillGap(change, lastSeq.get())))
+                    .doOnNext(change -> lastSeq.set(change.seq()));
+        });
+    }
+
+    @Override
+    public Mono<TechnologySnapshot> getSnapshot(String messageId) {
+        // La secuencia se lee antes que las filas: los eventos siguientes pueden repetir cambios
+        // ya incluidos en el snapshot y el consumidor los aplica de forma idempotente
+        return technologyChangePort.findLastSeq()
+                .flatMap(seq -> findAllInPages()
+                        .collectList()
+                        .map(technologies -> new TechnologySnapshot(seq, technologies)));
+    }
+
+    // Keyset por id: ninguna consulta lee más de una página
+    private Flux<Technology> findAllInPages() {
+        return findSnapshotPage(null)
+                .expand(page -> page.size() < SNAPSHOT_PAGE_SIZE
+                        ? Mono.empty()
+                        : findSnapshotPage(page.get(page.size() - 1).id()))
+                .flatMapIterable(page -> page);
+    }
+
+    private Mono<List<Technology>> findSnapshotPage(Long afterId) {
+        TechnologyPageQuery query = new TechnologyPageQuery(null, TechnologySortField.ID, afterId, null,
+                SNAPSHOT_PAGE_SIZE);
+        return technologyPersistencePort.findPage(query, SNAPSHOT_PAGE_SIZE)
+                .collectList();
+    }
+
+    private Flux<TechnologyChange> fillGap(TechnologyChange change, long lastSeq) {
+        if (change.seq() <= lastSeq) {
+            return Flux.empty();
+        }
+        if (change.seq() == lastSeq + 1) {
+            return Flux.just(change);
+        }
+        // Hueco en la secuencia (notificación perdida durante una reconexión o secuencia consumida
+        // por un rollback): se completa desde la tabla de cambios
+        return technologyChangePort.findChangesAfter(lastSeq)
+                .takeWhile(missed -> missed.seq() <= change.seq());
+    }
+}
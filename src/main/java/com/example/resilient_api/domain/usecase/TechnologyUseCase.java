@@ -2,20 +2,35 @@ package com.example.resilient_api.domain.usecase;
 
 import com.example.resilient_api.domain.enums.TechnicalMessage;
 import com.example.resilient_api.domain.exceptions.BusinessException;
+import com.example.resilient_api.domain.exceptions.TechnicalException;
 import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyExistence;
+import com.example.resilient_api.domain.model.TechnologyPage;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.model.TechnologyReferenceCount;
+import com.example.resilient_api.domain.model.TechnologyRegistrationResult;
 import com.example.resilient_api.domain.api.TechnologyServicePort;
 import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 public class TechnologyUseCase implements TechnologyServicePort {
 
     private static final int MAX_NAME_LENGTH = 50;
     private static final int MAX_DESCRIPTION_LENGTH = 90;
+    private static final int BULK_INSERT_CHUNK_SIZE = 200;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final TechnologyPersistencePort technologyPersistencePort;
 
@@ -25,27 +40,88 @@ public class TechnologyUseCase implements TechnologyServicePort {
 
     @Override
     public Mono<Technology> registerTechnology(Technology technology, String messageId) {
+        // INSERT ... ON CONFLICT DO NOTHING: si no retorna fila el nombre ya existe (también bajo concurrencia)
         return validateTechnology(technology)
-                .then(technologyPersistencePort.existByName(technology.name()))
-                .filter(exists -> !exists)
-                .switchIfEmpty(Mono.error(new BusinessException(TechnicalMessage.TECHNOLOGY_ALREADY_EXISTS)))
-                .flatMap(exists -> technologyPersistencePort.save(technology));
+                .then(technologyPersistencePort.saveIfNameAbsent(technology))
+                .switchIfEmpty(Mono.error(new BusinessException(TechnicalMessage.TECHNOLOGY_ALREADY_EXISTS)));
     }
 
     @Override
-    public Mono<Map<Long, Boolean>> checkTechnologiesExist(List<Long> ids, String messageId) {
-        if (ids == null || ids.isEmpty()) {
-            return Mono.just(Map.of());
+    public Flux<TechnologyRegistrationResult> registerTechnologies(List<Technology> technologies, String messageId) {
+        if (technologies == null || technologies.isEmpty()) {
+            return Flux.empty();
+        }
+        if (technologies.size() > MAX_BULK_SIZE) {
+            return Flux.error(new BusinessException(TechnicalMessage.TECHNOLOGY_BULK_TOO_LARGE));
         }
 
-        return technologyPersistencePort.findExistingIdsByIds(ids)
+        // Validación individual; un nombre repetido dentro del mismo lote se rechaza como ya existente
+        TechnologyRegistrationResult[] results = new TechnologyRegistrationResult[technologies.size()];
+        Map<String, Integer> candidateIndexes = new LinkedHashMap<>();
+        for (int index = 0; index < technologies.size(); index++) {
+            Technology technology = technologies.get(index);
+            Optional<TechnicalMessage> validationError = findValidationError(technology);
+            if (validationError.isPresent()) {
+                results[index] = TechnologyRegistrationResult.rejected(index, technology, validationError.get());
+            } else if (candidateIndexes.putIfAbsent(technology.name(), index) != null) {
+                results[index] = TechnologyRegistrationResult.rejected(
+                        index, technology, TechnicalMessage.TECHNOLOGY_ALREADY_EXISTS);
+            }
+        }
+        if (candidateIndexes.isEmpty()) {
+            return Flux.fromArray(results);
+        }
+
+        // Una sola consulta de unicidad y luego inserts multi-fila por chunks
+        return technologyPersistencePort.findExistingNames(List.copyOf(candidateIndexes.keySet()))
                 .collect(Collectors.toSet())
-                .map(existingIds -> ids.stream()
-                        .collect(Collectors.toMap(
-                                id -> id,
-                                existingIds::contains
-                        ))
-                );
+                .flatMapMany(existingNames -> {
+                    List<Technology> toInsert = new ArrayList<>();
+                    candidateIndexes.forEach((name, index) -> {
+                        if (existingNames.contains(name)) {
+                            results[index] = TechnologyRegistrationResult.rejected(
+                                    index, technologies.get(index), TechnicalMessage.TECHNOLOGY_ALREADY_EXISTS);
+                        } else {
+                            toInsert.add(technologies.get(index));
+                        }
+                    });
+                    return Flux.fromIterable(toInsert)
+                            .buffer(BULK_INSERT_CHUNK_SIZE)
+                            .concatMap(technologyPersistencePort::saveAllIgnoringConflicts);
+                })
+                .doOnNext(saved -> {
+                    int index = candidateIndexes.get(saved.name());
+                    results[index] = TechnologyRegistrationResult.registered(index, saved);
+                })
+                .thenMany(Flux.defer(() -> {
+                    // Lo que no retornó fila chocó con un insert concurrente (ON CONFLICT DO NOTHING)
+                    candidateIndexes.forEach((name, index) -> {
+                        if (results[index] == null) {
+                            results[index] = TechnologyRegistrationResult.rejected(
+                                    index, technologies.get(index), TechnicalMessage.TECHNOLOGY_ALREADY_EXISTS);
+                        }
+                    });
+                    return Flux.fromArray(results);
+                }));
+    }
+
+    @Override
+    public Mono<TechnologyExistence> checkTechnologiesExist(long[] ids, String messageId) {
+        if (ids == null || ids.length == 0) {
+            return Mono.just(TechnologyExistence.empty());
+        }
+
+        // Ids ordenados y sin duplicados: la pertenencia se resuelve con búsqueda binaria
+        // sobre el long[] y se marca en un BitSet, sin Set<Long> ni Map<Long, Boolean> intermedios
+        long[] requestedIds = LongStream.of(ids).sorted().distinct().toArray();
+        return technologyPersistencePort.findExistingIdsByIds(requestedIds)
+                .collect(() -> new BitSet(requestedIds.length), (existing, id) -> {
+                    int index = Arrays.binarySearch(requestedIds, id);
+                    if (index >= 0) {
+                        existing.set(index);
+                    }
+                })
+                .map(existing -> new TechnologyExistence(requestedIds, existing));
     }
 
     @Override
@@ -58,32 +134,72 @@ public class TechnologyUseCase implements TechnologyServicePort {
     }
 
     @Override
-    public Mono<Void> decrementTechnologyReferences(List<Long> technologyIds, String messageId) {
+    public Mono<TechnologyPage> listTechnologies(TechnologyPageQuery query, String messageId) {
+        if (query.size() < 1 || query.size() > MAX_PAGE_SIZE) {
+            return Mono.error(new BusinessException(TechnicalMessage.TECHNOLOGY_PAGE_SIZE_INVALID));
+        }
+
+        // Se pide un elemento extra solo para saber si existe una página siguiente
+        return technologyPersistencePort.findPage(query, query.size() + 1)
+                .collectList()
+                .map(items -> items.size() > query.size()
+                        ? new TechnologyPage(items.subList(0, query.size()), true)
+                        : new TechnologyPage(items, false));
+    }
+
+    @Override
+    @Deprecated
+    public Mono<List<Long>> decrementTechnologyReferences(List<Long> technologyIds, String messageId) {
         if (technologyIds == null || technologyIds.isEmpty()) {
-            return Mono.empty();
+            return Mono.just(List.of());
         }
 
-        // Technology-API simplemente elimina las tecnologías que capacity-api le indica
-        // porque capacity-api ya verificó que no tienen más referencias
-        return Flux.fromIterable(technologyIds)
-                .flatMap(technologyPersistencePort::deleteById)
-                .then();
+        // Borrado directo (endpoint previo a ref_count): ignora ref_count y se retornan los ids realmente eliminados
+        return technologyPersistencePort.deleteAllByIdIn(technologyIds)
+                .collectList();
+    }
+
+    @Override
+    public Mono<List<TechnologyReferenceCount>> adjustTechnologyReferences(List<Long> technologyIds, int delta,
+                                                                           String messageId) {
+        if (technologyIds == null || technologyIds.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        // Un id repetido cuenta una vez por aparición; se envía un solo delta por id, ordenado por id
+        Map<Long, Integer> deltasById = new TreeMap<>();
+        technologyIds.forEach(id -> deltasById.merge(id, delta, Integer::sum));
+        return technologyPersistencePort.applyReferenceDeltas(deltasById)
+                .collectList();
+    }
+
+    @Override
+    public Mono<Long> getCatalogVersion(String messageId) {
+        // La versión se incrementa en la base con cada escritura sobre technologies
+        return technologyPersistencePort.findCatalogVersion()
+                .switchIfEmpty(Mono.error(new TechnicalException(TechnicalMessage.INTERNAL_ERROR)));
     }
 
     private Mono<Void> validateTechnology(Technology technology) {
+        return findValidationError(technology)
+                .<Mono<Void>>map(error -> Mono.error(new BusinessException(error)))
+                .orElseGet(Mono::empty);
+    }
+
+    private Optional<TechnicalMessage> findValidationError(Technology technology) {
         if (technology.name() == null || technology.name().trim().isEmpty()) {
-            return Mono.error(new BusinessException(TechnicalMessage.TECHNOLOGY_NAME_REQUIRED));
+            return Optional.of(TechnicalMessage.TECHNOLOGY_NAME_REQUIRED);
         }
         if (technology.description() == null || technology.description().trim().isEmpty()) {
-            return Mono.error(new BusinessException(TechnicalMessage.TECHNOLOGY_DESCRIPTION_REQUIRED));
+            return Optional.of(TechnicalMessage.TECHNOLOGY_DESCRIPTION_REQUIRED);
         }
         if (technology.name().length() > MAX_NAME_LENGTH) {
-            return Mono.error(new BusinessException(TechnicalMessage.TECHNOLOGY_NAME_TOO_LONG));
+            return Optional.of(TechnicalMessage.TECHNOLOGY_NAME_TOO_LONG);
         }
         if (technology.description().length() > MAX_DESCRIPTION_LENGTH) {
-            return Mono.error(new BusinessException(TechnicalMessage.TECHNOLOGY_DESCRIPTION_TOO_LONG));
+            return Optional.of(TechnicalMessage.TECHNOLOGY_DESCRIPTION_TOO_LONG);
         }
-        return Mono.empty();
+        return Optional.empty();
     }
 }
 
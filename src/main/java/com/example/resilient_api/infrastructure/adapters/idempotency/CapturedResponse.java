@@ -0,0 +1,5 @@
+package com.example.resilient_api.infrastructure.adapters.idempotency;
+
+// requestDigest: SHA-256 del cuerpo original, para detectar un x-message-id reutilizado con otro cuerpo
+public record CapturedResponse(int status, String contentType, byte[] body, byte[] requestDigest) {
+}
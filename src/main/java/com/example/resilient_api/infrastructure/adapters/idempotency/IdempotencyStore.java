@@ -0,0 +1,12 @@
+package com.example.resilient_api.infrastructure.adapters.idempotency;
+
+import reactor.core.publisher.Mono;
+
+public interface IdempotencyStore {
+    // true si la clave quedó reservada para esta ejecución; false si ya tiene respuesta o está reservada
+    Mono<Boolean> claim(String key);
+    Mono<CapturedResponse> find(String key);
+    Mono<Void> save(String key, CapturedResponse response);
+    // Libera una reserva que terminó sin respuesta guardada
+    Mono<Void> release(String key);
+}
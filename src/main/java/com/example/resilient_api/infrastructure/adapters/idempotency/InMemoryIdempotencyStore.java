@@ -0,0 +1,40 @@
+package com.example.resilient_api.infrastructure.adapters.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, CapturedResponse> responses;
+
+    public InMemoryIdempotencyStore(long maxEntries, Duration ttl) {
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // La reserva dentro de una réplica la hace el filtro; aquí solo se comprueba que no haya respuesta
+    @Override
+    public Mono<Boolean> claim(String key) {
+        return Mono.fromSupplier(() -> responses.getIfPresent(key) == null);
+    }
+
+    @Override
+    public Mono<CapturedResponse> find(String key) {
+        return Mono.justOrEmpty(responses.getIfPresent(key));
+    }
+
+    @Override
+    public Mono<Void> save(String key, CapturedResponse response) {
+        return Mono.fromRunnable(() -> responses.put(key, response));
+    }
+
+    @Override
+    public Mono<Void> release(String key) {
+        return Mono.empty();
+    }
+}
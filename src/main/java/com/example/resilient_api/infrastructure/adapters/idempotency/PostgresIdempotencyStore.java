@@ -0,0 +1,106 @@
+package com.example.resilient_api.infrastructure.adapters.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Una fila con status NULL es una reserva de una ejecución en curso, válida hasta expires_at
+@Slf4j
+public class PostgresIdempotencyStore implements IdempotencyStore {
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final DatabaseClient databaseClient;
+    private final IdempotencyStore localStore;
+    private final Duration ttl;
+    private final Duration claimTimeout;
+    private final AtomicLong lastPurgeMillis = new AtomicLong();
+
+    public PostgresIdempotencyStore(DatabaseClient databaseClient, IdempotencyStore localStore, Duration ttl,
+                                    Duration claimTimeout) {
+        this.databaseClient = databaseClient;
+        this.localStore = localStore;
+        this.ttl = ttl;
+        this.claimTimeout = claimTimeout;
+    }
+
+    @Override
+    public Mono<Boolean> claim(String key) {
+        return localStore.find(key)
+                .map(found -> Boolean.FALSE)
+                .switchIfEmpty(Mono.defer(() -> databaseClient.sql("INSERT INTO idempotent_responses "
+                                + "(idempotency_key, expires_at) "
+                                + "VALUES (:key, now() + make_interval(secs => :claimSeconds)) "
+                                + "ON CONFLICT (idempotency_key) DO UPDATE SET status = NULL, content_type = NULL, "
+                                + "body = NULL, request_digest = NULL, expires_at = EXCLUDED.expires_at "
+                                + "WHERE idempotent_responses.expires_at <= now()")
+                        .bind("key", key)
+                        .bind("claimSeconds", (double) claimTimeout.toSeconds())
+                        .fetch()
+                        .rowsUpdated()
+                        .map(claimed -> claimed > 0)));
+    }
+
+    @Override
+    public Mono<CapturedResponse> find(String key) {
+        return localStore.find(key)
+                .switchIfEmpty(Mono.defer(() -> databaseClient.sql("SELECT status, content_type, body, request_digest "
+                                + "FROM idempotent_responses "
+                                + "WHERE idempotency_key = :key AND status IS NOT NULL AND expires_at > now()")
+                        .bind("key", key)
+                        .map((row, metadata) -> new CapturedResponse(
+                                row.get("status", Integer.class),
+                                row.get("content_type", String.class),
+                                row.get("body", byte[].class),
+                                row.get("request_digest", byte[].class)))
+                        .one()
+                        .flatMap(response -> localStore.save(key, response).thenReturn(response))));
+    }
+
+    @Override
+    public Mono<Void> save(String key, CapturedResponse response) {
+        DatabaseClient.GenericExecuteSpec upsert = databaseClient.sql("INSERT INTO idempotent_responses "
+                        + "(idempotency_key, status, content_type, body, request_digest, expires_at) "
+                        + "VALUES (:key, :status, :contentType, :body, :requestDigest, "
+                        + "now() + make_interval(secs => :ttlSeconds)) "
+                        + "ON CONFLICT (idempotency_key) DO UPDATE SET status = EXCLUDED.status, "
+                        + "content_type = EXCLUDED.content_type, body = EXCLUDED.body, "
+                        + "request_digest = EXCLUDED.request_digest, expires_at = EXCLUDED.expires_at "
+                        + "WHERE idempotent_responses.status IS NULL")
+                .bind("key", key)
+                .bind("status", response.status())
+                .bind("body", response.body())
+                .bind("requestDigest", response.requestDigest())
+                .bind("ttlSeconds", (double) ttl.toSeconds());
+        upsert = response.contentType() != null
+                ? upsert.bind("contentType", response.contentType())
+                : upsert.bindNull("contentType", String.class);
+        return localStore.save(key, response)
+                .then(upsert.then())
+                .then(purgeExpired());
+    }
+
+    @Override
+    public Mono<Void> release(String key) {
+        return databaseClient.sql("DELETE FROM idempotent_responses WHERE idempotency_key = :key AND status IS NULL")
+                .bind("key", key)
+                .then();
+    }
+
+    // Como mucho una vez por intervalo, sin tareas programadas
+    private Mono<Void> purgeExpired() {
+        long now = System.currentTimeMillis();
+        long last = lastPurgeMillis.get();
+        if (now - last < PURGE_INTERVAL.toMillis() || !lastPurgeMillis.compareAndSet(last, now)) {
+            return Mono.empty();
+        }
+        return databaseClient.sql("DELETE FROM idempotent_responses WHERE expires_at <= now()")
+                .fetch()
+                .rowsUpdated()
+                .doOnNext(deleted -> log.debug("Purged {} expired idempotent responses", deleted))
+                .then();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.resilient_api.infrastructure.adapters.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PortMetrics {
+
+    private static final Duration[] LATENCY_SLOS = {
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1)
+    };
+    private static final double[] ID_COUNT_SLOS = {1, 10, 50, 100, 500, 1000, 5000};
+
+    private final MeterRegistry meterRegistry;
+    private final String timerName;
+    private final String idsSummaryName;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> idsSummaries = new ConcurrentHashMap<>();
+
+    public PortMetrics(MeterRegistry meterRegistry, String timerName) {
+        this.meterRegistry = meterRegistry;
+        this.timerName = timerName;
+        this.idsSummaryName = timerName + ".ids";
+    }
+
+    public <T> Mono<T> timeMono(String method, Mono<T> mono) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return mono.doFinally(signal -> sample.stop(timer(method, outcome(signal))));
+        });
+    }
+
+    public <T> Flux<T> timeFlux(String method, Flux<T> flux) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return flux.doFinally(signal -> sample.stop(timer(method, outcome(signal))));
+        });
+    }
+
+    public void recordIds(String method, int count) {
+        idsSummaries.computeIfAbsent(method, key -> DistributionSummary.builder(idsSummaryName)
+                        .description("Number of ids per call")
+                        .tag("method", key)
+                        .publishPercentileHistogram()
+                        .serviceLevelObjectives(ID_COUNT_SLOS)
+                        .register(meterRegistry))
+                .record(count);
+    }
+
+    private Timer timer(String method, String outcome) {
+        return timers.computeIfAbsent(method + ':' + outcome, key -> Timer.builder(timerName)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(LATENCY_SLOS)
+                .register(meterRegistry));
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> "success";
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.resilient_api.infrastructure.adapters.metrics;
+
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.model.TechnologyReferenceCount;
+import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public class TimedTechnologyPersistencePort implements TechnologyPersistencePort {
+
+    private final TechnologyPersistencePort delegate;
+    private final PortMetrics metrics;
+
+    public TimedTechnologyPersistencePort(TechnologyPersistencePort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.metrics = new PortMetrics(meterRegistry, "technology.persistence");
+    }
+
+    @Override
+    public Mono<Technology> saveIfNameAbsent(Technology technology) {
+        return metrics.timeMono("saveIfNameAbsent", delegate.saveIfNameAbsent(technology));
+    }
+
+    @Override
+    public Flux<Long> findExistingIdsByIds(long[] ids) {
+        metrics.recordIds("findExistingIdsByIds", ids.length);
+        return metrics.timeFlux("findExistingIdsByIds", delegate.findExistingIdsByIds(ids));
+    }
+
+    @Override
+    public Flux<Technology> findAllByIdIn(List<Long> ids) {
+        metrics.recordIds("findAllByIdIn", ids.size());
+        return metrics.timeFlux("findAllByIdIn", delegate.findAllByIdIn(ids));
+    }
+
+    @Override
+    public Flux<Technology> findPage(TechnologyPageQuery query, int limit) {
+        return metrics.timeFlux("findPage", delegate.findPage(query, limit));
+    }
+
+    @Override
+    public Flux<Long> deleteAllByIdIn(List<Long> ids) {
+        metrics.recordIds("deleteAllByIdIn", ids.size());
+        return metrics.timeFlux("deleteAllByIdIn", delegate.deleteAllByIdIn(ids));
+    }
+
+    @Override
+    public Flux<String> findExistingNames(List<String> names) {
+        metrics.recordIds("findExistingNames", names.size());
+        return metrics.timeFlux("findExistingNames", delegate.findExistingNames(names));
+    }
+
+    @Override
+    public Flux<Technology> saveAllIgnoringConflicts(List<Technology> technologies) {
+        metrics.recordIds("saveAllIgnoringConflicts", technologies.size());
+        return metrics.timeFlux("saveAllIgnoringConflicts", delegate.saveAllIgnoringConflicts(technologies));
+    }
+
+    @Override
+    public Flux<TechnologyReferenceCount> applyReferenceDeltas(Map<Long, Integer> deltasById) {
+        metrics.recordIds("applyReferenceDeltas", deltasById.size());
+        return metrics.timeFlux("applyReferenceDeltas", delegate.applyReferenceDeltas(deltasById));
+    }
+
+    @Override
+    public Mono<Long> findCatalogVersion() {
+        return metrics.timeMono("findCatalogVersion", delegate.findCatalogVersion());
+    }
+}
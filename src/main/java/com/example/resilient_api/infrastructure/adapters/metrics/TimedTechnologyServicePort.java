@@ -0,0 +1,74 @@
+package com.example.resilient_api.infrastructure.adapters.metrics;
+
+import com.example.resilient_api.domain.api.TechnologyServicePort;
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyExistence;
+import com.example.resilient_api.domain.model.TechnologyPage;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.model.TechnologyReferenceCount;
+import com.example.resilient_api.domain.model.TechnologyRegistrationResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public class TimedTechnologyServicePort implements TechnologyServicePort {
+
+    private final TechnologyServicePort delegate;
+    private final PortMetrics metrics;
+
+    public TimedTechnologyServicePort(TechnologyServicePort delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.metrics = new PortMetrics(meterRegistry, "technology.service");
+    }
+
+    @Override
+    public Mono<Technology> registerTechnology(Technology technology, String messageId) {
+        return metrics.timeMono("registerTechnology", delegate.registerTechnology(technology, messageId));
+    }
+
+    @Override
+    public Flux<TechnologyRegistrationResult> registerTechnologies(List<Technology> technologies, String messageId) {
+        metrics.recordIds("registerTechnologies", technologies != null ? technologies.size() : 0);
+        return metrics.timeFlux("registerTechnologies", delegate.registerTechnologies(technologies, messageId));
+    }
+
+    @Override
+    public Mono<TechnologyExistence> checkTechnologiesExist(long[] ids, String messageId) {
+        metrics.recordIds("checkTechnologiesExist", ids != null ? ids.length : 0);
+        return metrics.timeMono("checkTechnologiesExist", delegate.checkTechnologiesExist(ids, messageId));
+    }
+
+    @Override
+    public Flux<Technology> getTechnologiesByIds(List<Long> ids, String messageId) {
+        metrics.recordIds("getTechnologiesByIds", ids != null ? ids.size() : 0);
+        return metrics.timeFlux("getTechnologiesByIds", delegate.getTechnologiesByIds(ids, messageId));
+    }
+
+    @Override
+    public Mono<TechnologyPage> listTechnologies(TechnologyPageQuery query, String messageId) {
+        return metrics.timeMono("listTechnologies", delegate.listTechnologies(query, messageId));
+    }
+
+    @Override
+    @Deprecated
+    public Mono<List<Long>> decrementTechnologyReferences(List<Long> technologyIds, String messageId) {
+        metrics.recordIds("decrementTechnologyReferences", technologyIds != null ? technologyIds.size() : 0);
+        return metrics.timeMono("decrementTechnologyReferences",
+                delegate.decrementTechnologyReferences(technologyIds, messageId));
+    }
+
+    @Override
+    public Mono<List<TechnologyReferenceCount>> adjustTechnologyReferences(List<Long> technologyIds, int delta,
+                                                                           String messageId) {
+        metrics.recordIds("adjustTechnologyReferences", technologyIds != null ? technologyIds.size() : 0);
+        return metrics.timeMono("adjustTechnologyReferences",
+                delegate.adjustTechnologyReferences(technologyIds, delta, messageId));
+    }
+
+    @Override
+    public Mono<Long> getCatalogVersion(String messageId) {
+        return metrics.timeMono("getCatalogVersion", delegate.getCatalogVersion(messageId));
+    }
+}
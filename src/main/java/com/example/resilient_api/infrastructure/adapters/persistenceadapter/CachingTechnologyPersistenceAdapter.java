@@ -0,0 +1,221 @@
+package com.example.resilient_api.infrastructure.adapters.persistenceadapter;
+
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyChange;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.model.TechnologyReferenceCount;
+import com.example.resilient_api.domain.spi.TechnologyChangePort;
+import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+@Slf4j
+public class CachingTechnologyPersistenceAdapter implements TechnologyPersistencePort, Disposable {
+
+    private static final String CACHE_NAME = "technologies";
+    private static final String INVALIDATIONS_METRIC = "technology.cache.invalidations";
+
+    private final TechnologyPersistencePort delegate;
+    private final AsyncCache<Long, Technology> asyncCache;
+    private final Cache<Long, Technology> cache;
+    private final TechnologyChangePort changePort;
+    private final Duration gapGracePeriod;
+    private final long versionRefreshNanos;
+    private final AtomicLong lastChangeSeq = new AtomicLong(-1);
+    // Último seq con todas las invalidaciones aplicadas
+    private final AtomicLong catalogVersion = new AtomicLong(-1);
+    private volatile long catalogVersionCheckedAt;
+    private final Counter entryInvalidations;
+    private final Counter fullInvalidations;
+    private volatile Disposable invalidations;
+
+    public CachingTechnologyPersistenceAdapter(TechnologyPersistencePort delegate, long maxSize, Duration ttl,
+                                               TechnologyChangePort changePort, Duration gapGracePeriod,
+                                               Duration versionRefresh, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.changePort = changePort;
+        this.gapGracePeriod = gapGracePeriod;
+        this.versionRefreshNanos = versionRefresh.toNanos();
+        this.catalogVersionCheckedAt = System.nanoTime() - versionRefreshNanos;
+        this.asyncCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        this.cache = asyncCache.synchronous();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.entryInvalidations = Counter.builder(INVALIDATIONS_METRIC)
+                .tag("scope", "entry")
+                .register(meterRegistry);
+        this.fullInvalidations = Counter.builder(INVALIDATIONS_METRIC)
+                .tag("scope", "all")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        invalidations = changePort.listenChanges()
+                .flatMap(this::evict)
+                .subscribe(null, error -> log.error("Technology cache invalidation stream terminated", error));
+    }
+
+    @Override
+    public void dispose() {
+        Disposable current = invalidations;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        Disposable current = invalidations;
+        return current == null || current.isDisposed();
+    }
+
+    private Mono<Void> evict(TechnologyChange change) {
+        invalidate(change.technologyId());
+        lastChangeSeq.accumulateAndGet(change.seq(), Math::max);
+        long version = catalogVersion.get();
+        if (version < 0) {
+            catalogVersion.compareAndSet(version, change.seq());
+            return Mono.empty();
+        }
+        if (change.seq() <= version + 1) {
+            return catchUpTo(change.seq());
+        }
+        // Un insert revertido también deja hueco en seq
+        return Mono.delay(gapGracePeriod)
+                .then(Mono.defer(() -> catchUpTo(change.seq())));
+    }
+
+    private Mono<Void> catchUpTo(long seq) {
+        long version = catalogVersion.get();
+        if (seq <= version) {
+            return Mono.empty();
+        }
+        if (version < 0 || seq == version + 1) {
+            if (version < 0) {
+                invalidateAll();
+            }
+            catalogVersion.accumulateAndGet(seq, Math::max);
+            return Mono.empty();
+        }
+        return changePort.findChangesAfter(version)
+                .takeWhile(missed -> missed.seq() <= seq)
+                .doOnNext(missed -> invalidate(missed.technologyId()))
+                .then()
+                .onErrorResume(error -> {
+                    log.warn("Could not read technology changes after seq {}: {}", version, error.getMessage());
+                    invalidateAll();
+                    return Mono.empty();
+                })
+                .doOnSuccess(ignored -> catalogVersion.accumulateAndGet(seq, Math::max));
+    }
+
+    private void invalidateAll() {
+        cache.invalidateAll();
+        fullInvalidations.increment();
+    }
+
+    private void invalidate(Long technologyId) {
+        cache.invalidate(technologyId);
+        entryInvalidations.increment();
+    }
+
+    @Override
+    public Mono<Technology> saveIfNameAbsent(Technology technology) {
+        return delegate.saveIfNameAbsent(technology)
+                .doOnNext(saved -> cache.invalidate(saved.id()));
+    }
+
+    @Override
+    public Flux<Long> findExistingIdsByIds(long[] ids) {
+        return findAllByIdIn(LongStream.of(ids).boxed().toList())
+                .map(Technology::id);
+    }
+
+    @Override
+    public Flux<Technology> findAllByIdIn(List<Long> ids) {
+        return Flux.defer(() -> {
+            List<Long> requestedIds = ids.stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            if (requestedIds.isEmpty()) {
+                return Flux.empty();
+            }
+            // El futuro es compartido con otras peticiones
+            return Mono.fromFuture(asyncCache.getAll(requestedIds, (misses, executor) ->
+                                    delegate.findAllByIdIn(List.copyOf(misses))
+                                            .collectMap(Technology::id)
+                                            .toFuture()), true)
+                    .flatMapIterable(Map::values);
+        });
+    }
+
+    @Override
+    public Flux<Technology> findPage(TechnologyPageQuery query, int limit) {
+        return delegate.findPage(query, limit);
+    }
+
+    @Override
+    public Flux<Long> deleteAllByIdIn(List<Long> ids) {
+        List<Long> invalidatedIds = ids.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        return delegate.deleteAllByIdIn(ids)
+                .doFinally(signal -> cache.invalidateAll(invalidatedIds));
+    }
+
+    @Override
+    public Flux<String> findExistingNames(List<String> names) {
+        return delegate.findExistingNames(names);
+    }
+
+    @Override
+    public Flux<Technology> saveAllIgnoringConflicts(List<Technology> technologies) {
+        return delegate.saveAllIgnoringConflicts(technologies)
+                .doOnNext(saved -> cache.invalidate(saved.id()));
+    }
+
+    @Override
+    public Flux<TechnologyReferenceCount> applyReferenceDeltas(Map<Long, Integer> deltasById) {
+        return delegate.applyReferenceDeltas(deltasById)
+                .doOnNext(reference -> {
+                    if (reference.deleted()) {
+                        cache.invalidate(reference.technologyId());
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Long> findCatalogVersion() {
+        long version = catalogVersion.get();
+        if (version >= 0 && version == lastChangeSeq.get() && !isDisposed()
+                && System.nanoTime() - catalogVersionCheckedAt < versionRefreshNanos) {
+            return Mono.just(version);
+        }
+        return delegate.findCatalogVersion()
+                .flatMap(current -> catchUpTo(current)
+                        .then(Mono.fromSupplier(() -> {
+                            catalogVersionCheckedAt = System.nanoTime();
+                            lastChangeSeq.accumulateAndGet(current, Math::max);
+                            return catalogVersion.get();
+                        })));
+    }
+}
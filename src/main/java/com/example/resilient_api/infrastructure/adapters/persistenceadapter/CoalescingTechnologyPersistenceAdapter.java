@@ -0,0 +1,192 @@
+package com.example.resilient_api.infrastructure.adapters.persistenceadapter;
+
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.model.TechnologyReferenceCount;
+import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+public class CoalescingTechnologyPersistenceAdapter implements TechnologyPersistencePort {
+
+    private final TechnologyPersistencePort delegate;
+    private final int maxBatchSize;
+    private final Duration window;
+    private final Object lock = new Object();
+    private PendingBatch currentBatch;
+    private int inFlightBatches;
+
+    public CoalescingTechnologyPersistenceAdapter(TechnologyPersistencePort delegate, int maxBatchSize,
+                                                  Duration window) {
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.window = window;
+    }
+
+    @Override
+    public Mono<Technology> saveIfNameAbsent(Technology technology) {
+        return delegate.saveIfNameAbsent(technology);
+    }
+
+    @Override
+    public Flux<Long> findExistingIdsByIds(long[] ids) {
+        return findAllByIdIn(LongStream.of(ids).boxed().toList())
+                .map(Technology::id);
+    }
+
+    @Override
+    public Flux<Technology> findAllByIdIn(List<Long> ids) {
+        return Flux.defer(() -> {
+            List<Long> requestedIds = ids.stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            if (requestedIds.isEmpty()) {
+                return Flux.empty();
+            }
+            return Flux.fromIterable(enqueue(requestedIds))
+                    .flatMap(batch -> batch.result().asMono())
+                    .collect(HashMap<Long, Technology>::new, Map::putAll)
+                    .flatMapIterable(found -> requestedIds.stream()
+                            .map(found::get)
+                            .filter(Objects::nonNull)
+                            .toList());
+        });
+    }
+
+    @Override
+    public Flux<Technology> findPage(TechnologyPageQuery query, int limit) {
+        return delegate.findPage(query, limit);
+    }
+
+    @Override
+    public Flux<Long> deleteAllByIdIn(List<Long> ids) {
+        return delegate.deleteAllByIdIn(ids);
+    }
+
+    @Override
+    public Flux<String> findExistingNames(List<String> names) {
+        return delegate.findExistingNames(names);
+    }
+
+    @Override
+    public Flux<Technology> saveAllIgnoringConflicts(List<Technology> technologies) {
+        return delegate.saveAllIgnoringConflicts(technologies);
+    }
+
+    @Override
+    public Flux<TechnologyReferenceCount> applyReferenceDeltas(Map<Long, Integer> deltasById) {
+        return delegate.applyReferenceDeltas(deltasById);
+    }
+
+    @Override
+    public Mono<Long> findCatalogVersion() {
+        return delegate.findCatalogVersion();
+    }
+
+    private Set<PendingBatch> enqueue(List<Long> ids) {
+        Set<PendingBatch> waitingOn = new LinkedHashSet<>();
+        List<PendingBatch> ready = new ArrayList<>();
+        synchronized (lock) {
+            // Sin nada con qué agrupar no se espera la ventana
+            boolean idle = currentBatch == null && inFlightBatches == 0;
+            PendingBatch opened = null;
+            for (Long id : ids) {
+                if (currentBatch == null) {
+                    currentBatch = new PendingBatch();
+                    opened = currentBatch;
+                }
+                currentBatch.ids().add(id);
+                waitingOn.add(currentBatch);
+                if (currentBatch.ids().size() >= maxBatchSize) {
+                    ready.add(currentBatch);
+                    currentBatch = null;
+                }
+            }
+            if (currentBatch != null && currentBatch == opened) {
+                if (idle) {
+                    ready.add(currentBatch);
+                    currentBatch = null;
+                } else {
+                    PendingBatch scheduled = currentBatch;
+                    scheduled.timer(Mono.delay(window).subscribe(tick -> flush(scheduled)));
+                }
+            }
+            inFlightBatches += ready.size();
+        }
+        ready.forEach(this::dispatch);
+        return waitingOn;
+    }
+
+    private void flush(PendingBatch batch) {
+        synchronized (lock) {
+            if (currentBatch != batch) {
+                return;
+            }
+            currentBatch = null;
+            inFlightBatches++;
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(PendingBatch batch) {
+        batch.cancelTimer();
+        delegate.findAllByIdIn(new ArrayList<>(batch.ids()))
+                .collectMap(Technology::id)
+                .doFinally(signal -> onBatchCompleted())
+                .subscribe(
+                        found -> batch.result().tryEmitValue(found),
+                        error -> batch.result().tryEmitError(error));
+    }
+
+    private void onBatchCompleted() {
+        PendingBatch next;
+        synchronized (lock) {
+            inFlightBatches--;
+            if (inFlightBatches > 0 || currentBatch == null) {
+                return;
+            }
+            next = currentBatch;
+            currentBatch = null;
+            inFlightBatches++;
+        }
+        dispatch(next);
+    }
+
+    private static final class PendingBatch {
+
+        private final Set<Long> ids = new LinkedHashSet<>();
+        private final Sinks.One<Map<Long, Technology>> result = Sinks.one();
+        private Disposable timer;
+
+        private Set<Long> ids() {
+            return ids;
+        }
+
+        private Sinks.One<Map<Long, Technology>> result() {
+            return result;
+        }
+
+        private synchronized void timer(Disposable timer) {
+            this.timer = timer;
+        }
+
+        private synchronized void cancelTimer() {
+            if (timer != null) {
+                timer.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.resilient_api.infrastructure.adapters.persistenceadapter;
+
+import com.example.resilient_api.domain.model.TechnologyChange;
+import com.example.resilient_api.domain.spi.TechnologyChangePort;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyChangeEntity;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.mapper.TechnologyChangeEntityMapper;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.repository.TechnologyChangeRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class TechnologyChangeAdapter implements TechnologyChangePort {
+
+    // Canal al que notifica el trigger record_technology_change (schema.sql)
+    private static final String CHANNEL = "technology_changes";
+    private static final Duration RECONNECT_MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration RECONNECT_MAX_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(10);
+
+    private final TechnologyChangeRepository technologyChangeRepository;
+    private final TechnologyChangeEntityMapper technologyChangeEntityMapper;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+    private final AtomicLong lastPurgeMillis = new AtomicLong();
+    private final Flux<TechnologyChange> liveChanges;
+
+    public TechnologyChangeAdapter(TechnologyChangeRepository technologyChangeRepository,
+                                   TechnologyChangeEntityMapper technologyChangeEntityMapper,
+                                   ConnectionFactory connectionFactory,
+                                   ObjectMapper objectMapper,
+                                   Duration retention) {
+        this.technologyChangeRepository = technologyChangeRepository;
+        this.technologyChangeEntityMapper = technologyChangeEntityMapper;
+        this.objectMapper = objectMapper;
+        this.retention = retention;
+        this.liveChanges = findPostgresqlConnectionFactory(connectionFactory)
+                .map(this::listen)
+                .orElseGet(() -> {
+                    log.warn("Connection factory is not PostgreSQL, live technology changes are disabled");
+                    return Flux.never();
+                });
+    }
+
+    @Override
+    public Flux<TechnologyChange> findChangesAfter(long seq) {
+        return technologyChangeRepository.findAllAfter(seq)
+                .map(technologyChangeEntityMapper::toModel);
+    }
+
+    @Override
+    public Mono<Long> findLastSeq() {
+        return technologyChangeRepository.findLastSeq();
+    }
+
+    @Override
+    public Mono<Long> findFirstSeq() {
+        return technologyChangeRepository.findFirstSeq();
+    }
+
+    @Override
+    public Flux<TechnologyChange> listenChanges() {
+        return liveChanges;
+    }
+
+    // Una conexión LISTEN por instancia, fuera del pool
+    private Flux<TechnologyChange> listen(PostgresqlConnectionFactory connectionFactory) {
+        return Flux.usingWhen(
+                        connectionFactory.create(),
+                        connection -> connection.createStatement("LISTEN " + CHANNEL)
+                                .execute()
+                                .flatMap(PostgresqlResult::getRowsUpdated)
+                                .thenMany(connection.getNotifications())
+                                .concatWith(Mono.error(new IllegalStateException("LISTEN connection closed"))),
+                        PostgresqlConnection::close)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, RECONNECT_MIN_BACKOFF)
+                        .maxBackoff(RECONNECT_MAX_BACKOFF)
+                        .doBeforeRetry(signal -> log.warn("Technology change listener failed, reconnecting: {}",
+                                signal.failure().getMessage())))
+                .concatMap(this::toChange)
+                .doOnNext(change -> purgeExpired())
+                .share();
+    }
+
+    // Como mucho una vez por intervalo, sin tareas programadas
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        long last = lastPurgeMillis.get();
+        if (now - last < PURGE_INTERVAL.toMillis() || !lastPurgeMillis.compareAndSet(last, now)) {
+            return;
+        }
+        technologyChangeRepository.deleteAllCreatedBefore(Instant.ofEpochMilli(now).minus(retention))
+                .subscribe(deleted -> log.debug("Purged {} technology changes older than {}", deleted, retention),
+                        error -> log.warn("Could not purge technology changes: {}", error.getMessage()));
+    }
+
+    private Mono<TechnologyChange> toChange(Notification notification) {
+        try {
+            TechnologyChangeEntity entity =
+                    objectMapper.readValue(notification.getParameter(), TechnologyChangeEntity.class);
+            return Mono.just(technologyChangeEntityMapper.toModel(entity));
+        } catch (JsonProcessingException ex) {
+            log.warn("Ignoring malformed technology change notification: {}", notification.getParameter());
+            return Mono.empty();
+        }
+    }
+
+    private static Optional<PostgresqlConnectionFactory> findPostgresqlConnectionFactory(
+            ConnectionFactory connectionFactory) {
+        ConnectionFactory current = connectionFactory;
+        while (!(current instanceof PostgresqlConnectionFactory) && current instanceof Wrapped<?> wrapped
+                && wrapped.unwrap() instanceof ConnectionFactory unwrapped) {
+            current = unwrapped;
+        }
+        return current instanceof PostgresqlConnectionFactory postgres ? Optional.of(postgres) : Optional.empty();
+    }
+}
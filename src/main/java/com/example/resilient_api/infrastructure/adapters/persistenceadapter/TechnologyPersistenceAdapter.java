@@ -1,49 +1,145 @@
 package com.example.resilient_api.infrastructure.adapters.persistenceadapter;
 
+import com.example.resilient_api.domain.enums.TechnologySortField;
 import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.model.TechnologyReferenceCount;
 import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
 import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyEntity;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyReferenceCountEntity;
 import com.example.resilient_api.infrastructure.adapters.persistenceadapter.mapper.TechnologyEntityMapper;
 import com.example.resilient_api.infrastructure.adapters.persistenceadapter.repository.TechnologyRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @AllArgsConstructor
 public class TechnologyPersistenceAdapter implements TechnologyPersistencePort {
     private final TechnologyRepository technologyRepository;
     private final TechnologyEntityMapper technologyEntityMapper;
+    private final TransactionalOperator transactionalOperator;
 
     @Override
-    public Mono<Technology> save(Technology technology) {
-        return technologyRepository.save(technologyEntityMapper.toEntity(technology))
+    public Mono<Technology> saveIfNameAbsent(Technology technology) {
+        return technologyRepository.insertIgnoringConflict(technology.name(), technology.description())
                 .map(technologyEntityMapper::toModel);
     }
 
     @Override
-    public Mono<Boolean> existByName(String name) {
-        return technologyRepository.findByName(name)
-                .map(technologyEntityMapper::toModel)
-                .map(technology -> true)
-                .defaultIfEmpty(false);
+    public Flux<Long> findExistingIdsByIds(long[] ids) {
+        return technologyRepository.findExistingIds(ids);
     }
 
     @Override
-    public Flux<Long> findExistingIdsByIds(List<Long> ids) {
+    public Flux<Technology> findAllByIdIn(List<Long> ids) {
         return technologyRepository.findAllByIdIn(ids)
-                .map(TechnologyEntity::getId);
+                .map(technologyEntityMapper::toModel);
     }
 
     @Override
-    public Flux<Technology> findAllByIdIn(List<Long> ids) {
-        return technologyRepository.findAllByIdIn(ids)
+    public Flux<Technology> findPage(TechnologyPageQuery query, int limit) {
+        String afterName = query.afterName() != null ? query.afterName() : "";
+        long afterId = query.afterId() != null ? query.afterId() : 0L;
+        boolean byName = query.sort() == TechnologySortField.NAME;
+        String prefix = query.namePrefix();
+        Flux<TechnologyEntity> page;
+        if (prefix == null || prefix.isEmpty()) {
+            page = byName
+                    ? technologyRepository.findPageOrderByName(afterName, limit)
+                    : technologyRepository.findPageOrderById(afterId, limit);
+        } else {
+            String upperBound = prefixUpperBound(prefix);
+            if (upperBound != null) {
+                page = byName
+                        ? technologyRepository.findPageByNameRangeOrderByName(prefix, upperBound, afterName, limit)
+                        : technologyRepository.findPageByNameRangeOrderById(prefix, upperBound, afterId, limit);
+            } else {
+                String namePattern = escapeLikePattern(prefix) + "%";
+                page = byName
+                        ? technologyRepository.findPageByNamePatternOrderByName(namePattern, afterName, limit)
+                        : technologyRepository.findPageByNamePatternOrderById(namePattern, afterId, limit);
+            }
+        }
+        return page.map(technologyEntityMapper::toModel);
+    }
+
+    @Override
+    public Flux<Long> deleteAllByIdIn(List<Long> ids) {
+        return technologyRepository.deleteAllByIdIn(ids.toArray(Long[]::new));
+    }
+
+    @Override
+    public Flux<String> findExistingNames(List<String> names) {
+        return technologyRepository.findExistingNames(names.toArray(String[]::new));
+    }
+
+    @Override
+    public Flux<Technology> saveAllIgnoringConflicts(List<Technology> technologies) {
+        String[] names = technologies.stream().map(Technology::name).toArray(String[]::new);
+        String[] descriptions = technologies.stream().map(Technology::description).toArray(String[]::new);
+        return technologyRepository.insertAllIgnoringConflicts(names, descriptions)
                 .map(technologyEntityMapper::toModel);
     }
 
     @Override
-    public Mono<Void> deleteById(Long id) {
-        return technologyRepository.deleteById(id);
+    public Flux<TechnologyReferenceCount> applyReferenceDeltas(Map<Long, Integer> deltasById) {
+        Long[] ids = deltasById.keySet().toArray(Long[]::new);
+        Integer[] deltas = deltasById.values().toArray(Integer[]::new);
+        // UPDATE y DELETE en la misma transacción
+        return technologyRepository.addReferenceDeltas(ids, deltas)
+                .collectList()
+                .flatMapMany(updated -> deleteUnreferenced(updated)
+                        .flatMapMany(deletedIds -> Flux.fromIterable(updated)
+                                .map(row -> new TechnologyReferenceCount(row.getId(), row.getRefCount(),
+                                        deletedIds.contains(row.getId())))))
+                .as(transactionalOperator::transactional);
+    }
+
+    // Solo las filas que pasaron de tener referencias a cero
+    private Mono<Set<Long>> deleteUnreferenced(List<TechnologyReferenceCountEntity> updated) {
+        Long[] unreferencedIds = updated.stream()
+                .filter(row -> row.getPreviousRefCount() > 0 && row.getRefCount() == 0)
+                .map(TechnologyReferenceCountEntity::getId)
+                .toArray(Long[]::new);
+        if (unreferencedIds.length == 0) {
+            return Mono.just(Set.of());
+        }
+        return technologyRepository.deleteUnreferencedByIdIn(unreferencedIds)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Mono<Long> findCatalogVersion() {
+        return technologyRepository.findCatalogVersion();
+    }
+
+    // Menor cadena mayor que todas las que empiezan por el prefijo; null si no existe
+    static String prefixUpperBound(String prefix) {
+        int end = prefix.length();
+        while (end > 0) {
+            int codePoint = prefix.codePointBefore(end);
+            int start = end - Character.charCount(codePoint);
+            if (codePoint < Character.MAX_CODE_POINT) {
+                int next = codePoint + 1 == Character.MIN_SURROGATE ? Character.MAX_SURROGATE + 1 : codePoint + 1;
+                return prefix.substring(0, start) + Character.toString(next);
+            }
+            end = start;
+        }
+        return null;
+    }
+
+    private String escapeLikePattern(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
 }
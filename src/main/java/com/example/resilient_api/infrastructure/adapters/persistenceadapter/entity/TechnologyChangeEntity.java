@@ -0,0 +1,22 @@
+package com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table(name = "technology_changes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechnologyChangeEntity {
+    @Id
+    private Long seq;
+    private Long technologyId;
+    private String changeType;
+    private String name;
+    private String description;
+}
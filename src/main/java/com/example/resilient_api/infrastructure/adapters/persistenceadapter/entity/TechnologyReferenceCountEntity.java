@@ -0,0 +1,17 @@
+package com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Proyección de UPDATE ... RETURNING id, ref_count y el ref_count previo al ajuste
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TechnologyReferenceCountEntity {
+    private Long id;
+    private Integer refCount;
+    private Integer previousRefCount;
+}
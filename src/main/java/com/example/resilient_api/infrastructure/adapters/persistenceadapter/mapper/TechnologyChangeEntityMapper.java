@@ -0,0 +1,12 @@
+package com.example.resilient_api.infrastructure.adapters.persistenceadapter.mapper;
+
+import com.example.resilient_api.domain.model.TechnologyChange;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyChangeEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface TechnologyChangeEntityMapper {
+    @Mapping(target = "type", source = "changeType")
+    TechnologyChange toModel(TechnologyChangeEntity entity);
+}
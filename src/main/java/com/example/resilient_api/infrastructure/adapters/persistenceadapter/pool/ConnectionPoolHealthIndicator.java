@@ -0,0 +1,50 @@
+package com.example.resilient_api.infrastructure.adapters.persistenceadapter.pool;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.ReactiveHealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+public class ConnectionPoolHealthIndicator implements ReactiveHealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Pending connection acquisitions are piling up");
+
+    private final Optional<PoolMetrics> poolMetrics;
+    private final int pendingAcquireThreshold;
+
+    public ConnectionPoolHealthIndicator(ConnectionFactory connectionFactory, int pendingAcquireThreshold) {
+        this.poolMetrics = findPool(connectionFactory).flatMap(ConnectionPool::getMetrics);
+        this.pendingAcquireThreshold = pendingAcquireThreshold;
+    }
+
+    @Override
+    public Mono<Health> health() {
+        return Mono.fromSupplier(() -> poolMetrics
+                .map(metrics -> (metrics.pendingAcquireSize() > pendingAcquireThreshold
+                        ? Health.status(DEGRADED)
+                        : Health.up())
+                        .withDetail("acquired", metrics.acquiredSize())
+                        .withDetail("allocated", metrics.allocatedSize())
+                        .withDetail("idle", metrics.idleSize())
+                        .withDetail("pending", metrics.pendingAcquireSize())
+                        .withDetail("maxAllocated", metrics.getMaxAllocatedSize())
+                        .withDetail("pendingThreshold", pendingAcquireThreshold)
+                        .build())
+                .orElseGet(() -> Health.unknown().build()));
+    }
+
+    private static Optional<ConnectionPool> findPool(ConnectionFactory connectionFactory) {
+        ConnectionFactory current = connectionFactory;
+        while (!(current instanceof ConnectionPool) && current instanceof Wrapped<?> wrapped
+                && wrapped.unwrap() instanceof ConnectionFactory unwrapped) {
+            current = unwrapped;
+        }
+        return current instanceof ConnectionPool pool ? Optional.of(pool) : Optional.empty();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.resilient_api.infrastructure.adapters.persistenceadapter.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+// Reemplaza al bean del pool, así que también expone su cierre: Boot lo declara con destroyMethod = "dispose"
+public class TimedConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, Closeable, Disposable {
+
+    private static final String ACQUIRE_METRIC = "r2dbc.pool.acquire";
+
+    private final ConnectionPool delegate;
+    private final MeterRegistry meterRegistry;
+    private final Timer acquireSuccessTimer;
+    private final Timer acquireErrorTimer;
+
+    public TimedConnectionFactory(ConnectionPool delegate, String poolName, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.acquireSuccessTimer = acquireTimer(poolName, "success");
+        this.acquireErrorTimer = acquireTimer(poolName, "error");
+    }
+
+    // Sobre un pool, create() equivale a adquirir una conexión: se mide el tiempo de espera
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return Mono.from(delegate.create())
+                    .doOnSuccess(connection -> sample.stop(acquireSuccessTimer))
+                    .doOnError(error -> sample.stop(acquireErrorTimer));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+
+    @Override
+    public Mono<Void> close() {
+        return delegate.close();
+    }
+
+    @Override
+    public void dispose() {
+        delegate.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return delegate.isDisposed();
+    }
+
+    private Timer acquireTimer(String poolName, String outcome) {
+        return Timer.builder(ACQUIRE_METRIC)
+                .description("Time spent waiting to acquire a connection from the R2DBC pool")
+                .tag("name", poolName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.resilient_api.infrastructure.adapters.persistenceadapter.repository;
+
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyChangeEntity;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Repository
+public interface TechnologyChangeRepository extends ReactiveCrudRepository<TechnologyChangeEntity, Long> {
+
+    @Query("SELECT seq, technology_id, change_type, name, description FROM technology_changes "
+            + "WHERE seq > :afterSeq ORDER BY seq")
+    Flux<TechnologyChangeEntity> findAllAfter(long afterSeq);
+
+    @Query("SELECT COALESCE(MAX(seq), 0) FROM technology_changes")
+    Mono<Long> findLastSeq();
+
+    @Query("SELECT COALESCE(MIN(seq), 0) FROM technology_changes")
+    Mono<Long> findFirstSeq();
+
+    // Siempre se conserva la última fila: findLastSeq no puede retroceder a 0 aunque no haya cambios recientes
+    @Modifying
+    @Query("DELETE FROM technology_changes "
+            + "WHERE created_at < :cutoff AND seq < (SELECT MAX(seq) FROM technology_changes)")
+    Mono<Long> deleteAllCreatedBefore(Instant cutoff);
+}
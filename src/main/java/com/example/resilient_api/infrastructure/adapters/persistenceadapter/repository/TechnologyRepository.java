@@ -1,6 +1,8 @@
 package com.example.resilient_api.infrastructure.adapters.persistenceadapter.repository;
 
 import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyEntity;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyReferenceCountEntity;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -10,7 +12,77 @@ import java.util.List;
 
 @Repository
 public interface TechnologyRepository extends ReactiveCrudRepository<TechnologyEntity, Long> {
-    Mono<TechnologyEntity> findByName(String name);
     Flux<TechnologyEntity> findAllByIdIn(List<Long> ids);
+
+    @Query("SELECT id FROM technologies WHERE id = ANY(:ids)")
+    Flux<Long> findExistingIds(long[] ids);
+
+    @Query("DELETE FROM technologies WHERE id = ANY(:ids) RETURNING id")
+    Flux<Long> deleteAllByIdIn(Long[] ids);
+
+    @Query("INSERT INTO technologies (name, description) VALUES (:name, :description) "
+            + "ON CONFLICT (name) DO NOTHING "
+            + "RETURNING id, name, description")
+    Mono<TechnologyEntity> insertIgnoringConflict(String name, String description);
+
+    @Query("SELECT id, name, description FROM technologies "
+            + "WHERE id > :afterId "
+            + "ORDER BY id LIMIT :limit")
+    Flux<TechnologyEntity> findPageOrderById(long afterId, int limit);
+
+    // Orden de bytes (COLLATE "C"), igual que el índice
+    @Query("SELECT id, name, description FROM technologies "
+            + "WHERE name COLLATE \"C\" > :afterName "
+            + "ORDER BY name COLLATE \"C\" LIMIT :limit")
+    Flux<TechnologyEntity> findPageOrderByName(String afterName, int limit);
+
+    // El prefijo es el rango [lowerBound, upperBound)
+    @Query("SELECT id, name, description FROM technologies "
+            + "WHERE name COLLATE \"C\" >= :lowerBound AND name COLLATE \"C\" < :upperBound AND id > :afterId "
+            + "ORDER BY id LIMIT :limit")
+    Flux<TechnologyEntity> findPageByNameRangeOrderById(String lowerBound, String upperBound, long afterId, int limit);
+
+    @Query("SELECT id, name, description FROM technologies "
+            + "WHERE name COLLATE \"C\" >= :lowerBound AND name COLLATE \"C\" < :upperBound "
+            + "AND name COLLATE \"C\" > :afterName "
+            + "ORDER BY name COLLATE \"C\" LIMIT :limit")
+    Flux<TechnologyEntity> findPageByNameRangeOrderByName(String lowerBound, String upperBound, String afterName,
+                                                          int limit);
+
+    // Solo para prefijos sin cota superior (todo U+10FFFF)
+    @Query("SELECT id, name, description FROM technologies "
+            + "WHERE name LIKE :namePattern AND id > :afterId "
+            + "ORDER BY id LIMIT :limit")
+    Flux<TechnologyEntity> findPageByNamePatternOrderById(String namePattern, long afterId, int limit);
+
+    @Query("SELECT id, name, description FROM technologies "
+            + "WHERE name LIKE :namePattern AND name COLLATE \"C\" > :afterName "
+            + "ORDER BY name COLLATE \"C\" LIMIT :limit")
+    Flux<TechnologyEntity> findPageByNamePatternOrderByName(String namePattern, String afterName, int limit);
+
+    @Query("SELECT name FROM technologies WHERE name = ANY(:names)")
+    Flux<String> findExistingNames(String[] names);
+
+    @Query("INSERT INTO technologies (name, description) "
+            + "SELECT * FROM unnest(CAST(:names AS varchar[]), CAST(:descriptions AS varchar[])) "
+            + "ON CONFLICT (name) DO NOTHING "
+            + "RETURNING id, name, description")
+    Flux<TechnologyEntity> insertAllIgnoringConflicts(String[] names, String[] descriptions);
+
+    // Bloqueo en orden de id para evitar interbloqueos entre lotes
+    @Query("WITH deltas AS ("
+            + "SELECT id, delta FROM unnest(CAST(:ids AS bigint[]), CAST(:deltas AS int[])) AS d(id, delta)), "
+            + "locked AS ("
+            + "SELECT t.id, t.ref_count FROM technologies t JOIN deltas d ON d.id = t.id ORDER BY t.id FOR UPDATE OF t) "
+            + "UPDATE technologies t SET ref_count = GREATEST(t.ref_count + d.delta, 0) "
+            + "FROM deltas d JOIN locked l ON l.id = d.id WHERE t.id = d.id "
+            + "RETURNING t.id, t.ref_count, l.ref_count AS previous_ref_count")
+    Flux<TechnologyReferenceCountEntity> addReferenceDeltas(Long[] ids, Integer[] deltas);
+
+    @Query("DELETE FROM technologies WHERE id = ANY(:ids) AND ref_count = 0 RETURNING id")
+    Flux<Long> deleteUnreferencedByIdIn(Long[] ids);
+
+    @Query("SELECT COALESCE(MAX(seq), 0) FROM technology_changes")
+    Mono<Long> findCatalogVersion();
 }
 
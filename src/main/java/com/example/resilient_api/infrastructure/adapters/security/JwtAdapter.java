@@ -3,62 +3,155 @@ package com.example.resilient_api.infrastructure.adapters.security;
 import com.example.resilient_api.domain.api.JwtPort;
 import com.example.resilient_api.domain.enums.TechnicalMessage;
 import com.example.resilient_api.domain.exceptions.BusinessException;
+import com.example.resilient_api.domain.exceptions.TechnicalException;
 import com.example.resilient_api.domain.model.JwtPayload;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
 
 @Component
 @Slf4j
 public class JwtAdapter implements JwtPort {
 
-    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final Duration cacheMaxTtl;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Scheduler blockingWorkScheduler;
 
-    public JwtAdapter(@Value("${jwt.secret}") String secret) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    public JwtAdapter(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.cache.max-size}") long cacheMaxSize,
+                      @Value("${jwt.cache.max-ttl}") Duration cacheMaxTtl,
+                      MeterRegistry meterRegistry,
+                      Scheduler blockingWorkScheduler) {
+        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // El parser es inmutable y thread-safe, se construye una sola vez
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.cacheMaxTtl = cacheMaxTtl;
+        this.blockingWorkScheduler = blockingWorkScheduler;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        Gauge.builder("jwt.verified.cache.size", verifiedTokens, Cache::estimatedSize)
+                .description("Number of verified JWTs held in the cache")
+                .register(meterRegistry);
+        Gauge.builder("jwt.verified.cache.hit.ratio", verifiedTokens, cache -> cache.stats().hitRate())
+                .description("Ratio of token validations answered from the cache")
+                .register(meterRegistry);
     }
 
     @Override
     public Mono<JwtPayload> validateAndExtractPayload(String token) {
-        return Mono.fromCallable(() -> {
-            try {
-                log.info("JwtAdapter - Starting token validation");
-                log.debug("JwtAdapter - Token: {}", token.substring(0, Math.min(20, token.length())) + "...");
-
-                Claims claims = Jwts.parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parseSignedClaims(token)
-                        .getPayload();
-
-                Long userId = claims.get("userId", Long.class);
-                String email = claims.getSubject();
-                Boolean isAdmin = claims.get("isAdmin", Boolean.class);
-
-                log.info("JwtAdapter - Token validated successfully for userId: {}, email: {}, isAdmin: {}",
-                        userId, email, isAdmin);
-
-                return new JwtPayload(userId, email, isAdmin);
-            } catch (ExpiredJwtException ex) {
-                log.error("JwtAdapter - Token expired: {}", ex.getMessage());
-                throw new BusinessException(TechnicalMessage.TOKEN_EXPIRED);
-            } catch (SignatureException | MalformedJwtException ex) {
-                log.error("JwtAdapter - Invalid token signature or format: {}", ex.getMessage());
-                throw new BusinessException(TechnicalMessage.TOKEN_INVALID);
-            } catch (Exception ex) {
-                log.error("JwtAdapter - Unexpected error validating token: {}", ex.getMessage(), ex);
-                throw new BusinessException(TechnicalMessage.TOKEN_INVALID);
+        return Mono.defer(() -> {
+            String cacheKey = hashToken(token);
+            VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+            if (cached != null) {
+                log.debug("JwtAdapter - Token served from verified cache for userId: {}", cached.payload().userId());
+                return Mono.just(cached.payload());
             }
+            // Solo los misses pagan el salto de hilo: la verificación HMAC y el parseo JSON salen del event loop
+            return Mono.fromCallable(() -> verifyToken(token, cacheKey))
+                    .subscribeOn(blockingWorkScheduler);
         });
     }
+
+    private JwtPayload verifyToken(String token, String cacheKey) {
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("JwtAdapter - Starting token validation for token: {}...",
+                        token.substring(0, Math.min(20, token.length())));
+            }
+
+            Claims claims = jwtParser
+                    .parseSignedClaims(token)
+                    .getPayload();
+
+            Long userId = claims.get("userId", Long.class);
+            String email = claims.getSubject();
+            Boolean isAdmin = claims.get("isAdmin", Boolean.class);
+
+            log.debug("JwtAdapter - Token validated successfully for userId: {}, email: {}, isAdmin: {}",
+                    userId, email, isAdmin);
+
+            JwtPayload payload = new JwtPayload(userId, email, isAdmin);
+            verifiedTokens.put(cacheKey, new VerifiedToken(payload, resolveExpiration(claims.getExpiration())));
+            return payload;
+        } catch (ExpiredJwtException ex) {
+            log.debug("JwtAdapter - Token expired: {}", ex.getMessage());
+            throw new BusinessException(TechnicalMessage.TOKEN_EXPIRED);
+        } catch (SignatureException | MalformedJwtException ex) {
+            log.debug("JwtAdapter - Invalid token signature or format: {}", ex.getMessage());
+            throw new BusinessException(TechnicalMessage.TOKEN_INVALID);
+        } catch (Exception ex) {
+            log.error("JwtAdapter - Unexpected error validating token: {}", ex.getMessage(), ex);
+            throw new BusinessException(TechnicalMessage.TOKEN_INVALID);
+        }
+    }
+
+    private Instant resolveExpiration(Date expiration) {
+        // Tokens sin claim exp solo se mantienen en cache hasta el TTL máximo configurado
+        Instant maxExpiration = Instant.now().plus(cacheMaxTtl);
+        if (expiration == null || expiration.toInstant().isAfter(maxExpiration)) {
+            return maxExpiration;
+        }
+        return expiration.toInstant();
+    }
+
+    private static String hashToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new TechnicalException(ex, TechnicalMessage.INTERNAL_ERROR);
+        }
+    }
+
+    private record VerifiedToken(JwtPayload payload, Instant expiresAt) {
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -30,30 +30,30 @@ public class JwtAuthenticationFilter implements WebFilter {
         String path = exchange.getRequest().getURI().getPath();
         String method = exchange.getRequest().getMethod().toString();
 
-        log.info("JWT Filter - Processing request: {} {}", method, path);
+        log.debug("JWT Filter - Processing request: {} {}", method, path);
 
         String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
-        log.info("JWT Filter - Authorization header: {}", authHeader != null ? "Present" : "Missing");
+        log.debug("JWT Filter - Authorization header: {}", authHeader != null ? "Present" : "Missing");
 
         // Si NO hay token, continuar sin autenticación
         // Spring Security decidirá si el endpoint requiere autenticación
         if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
-            log.info("JWT Filter - No Bearer token found, continuing without authentication (Spring Security will handle authorization)");
+            log.debug("JWT Filter - No Bearer token found, continuing without authentication (Spring Security will handle authorization)");
             return chain.filter(exchange);
         }
 
         // Si HAY token, validarlo y asignar rol
         String token = authHeader.substring(BEARER_PREFIX.length());
-        log.info("JWT Filter - Validating JWT token");
+        log.debug("JWT Filter - Validating JWT token");
 
         return jwtPort.validateAndExtractPayload(token)
                 .flatMap(payload -> {
-                    log.info("JWT Filter - Token validated successfully for user: {} (admin: {})",
+                    log.debug("JWT Filter - Token validated successfully for user: {} (admin: {})",
                             payload.email(), payload.isAdmin());
                     return authenticateUser(payload, exchange, chain);
                 })
                 .onErrorResume(ex -> {
-                    log.error("JWT Filter - Error validating JWT token: {}", ex.getMessage(), ex);
+                    log.debug("JWT Filter - Error validating JWT token: {}", ex.getMessage());
                     // Si el token es inválido, continuar sin autenticación
                     // Spring Security retornará 401 si el endpoint requiere autenticación
                     return chain.filter(exchange);
@@ -67,7 +67,7 @@ public class JwtAuthenticationFilter implements WebFilter {
                 new SimpleGrantedAuthority(role)
         );
 
-        log.info("JWT Filter - Assigned role: {} for user: {}", role, payload.email());
+        log.debug("JWT Filter - Assigned role: {} for user: {}", role, payload.email());
 
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(payload, null, authorities);
@@ -1,22 +1,45 @@
 package com.example.resilient_api.infrastructure.entrypoints;
 
 import com.example.resilient_api.infrastructure.entrypoints.handler.TechnologyHandlerImpl;
+import com.example.resilient_api.infrastructure.entrypoints.metrics.RouteMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_BULK;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_BY_ID;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_BY_IDS;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_CHANGES;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_CHECK_EXISTS;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_CREATE;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_DECREMENT_REFERENCE_COUNTS;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_DECREMENT_REFERENCES;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_INCREMENT_REFERENCE_COUNTS;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_LIST;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_SNAPSHOT;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
 import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
 
 @Configuration
 public class RouterRest {
     @Bean
-    public RouterFunction<ServerResponse> routerFunction(TechnologyHandlerImpl technologyHandler) {
-        return route(POST("/technology"), technologyHandler::createTechnology)
-            .andRoute(POST("/technology/check-exists"), technologyHandler::checkTechnologiesExist)
-            .andRoute(POST("/technology/by-ids"), technologyHandler::getTechnologiesByIds)
-            .andRoute(POST("/technology/decrement-references"), technologyHandler::decrementTechnologyReferences);
+    public RouterFunction<ServerResponse> routerFunction(TechnologyHandlerImpl technologyHandler, RouteMetrics routeMetrics) {
+        return route(POST("/technology"), routeMetrics.timed(ROUTE_CREATE, technologyHandler::createTechnology))
+            .andRoute(GET("/technology"), routeMetrics.timed(ROUTE_LIST, technologyHandler::listTechnologies))
+            // Las rutas GET con segmento fijo van antes de /technology/{id}
+            .andRoute(GET("/technology/by-ids"), routeMetrics.timed(ROUTE_BY_IDS, technologyHandler::getTechnologiesByIdsQuery))
+            .andRoute(GET("/technology/changes"), routeMetrics.timed(ROUTE_CHANGES, technologyHandler::streamTechnologyChanges))
+            .andRoute(GET("/technology/snapshot"), routeMetrics.timed(ROUTE_SNAPSHOT, technologyHandler::getTechnologySnapshot))
+            .andRoute(GET("/technology/{id}"), routeMetrics.timed(ROUTE_BY_ID, technologyHandler::getTechnologyById))
+            .andRoute(POST("/technology/bulk"), routeMetrics.timed(ROUTE_BULK, technologyHandler::registerTechnologies))
+            .andRoute(POST("/technology/check-exists"), routeMetrics.timed(ROUTE_CHECK_EXISTS, technologyHandler::checkTechnologiesExist))
+            .andRoute(POST("/technology/by-ids"), routeMetrics.timed(ROUTE_BY_IDS, technologyHandler::getTechnologiesByIds))
+            // Obsoleta: borra sin ref_count; capacity-api usa /technology/references/increment y /decrement
+            .andRoute(POST("/technology/decrement-references"), routeMetrics.timed(ROUTE_DECREMENT_REFERENCES, technologyHandler::decrementTechnologyReferences))
+            .andRoute(POST("/technology/references/increment"), routeMetrics.timed(ROUTE_INCREMENT_REFERENCE_COUNTS, technologyHandler::incrementTechnologyReferenceCounts))
+            .andRoute(POST("/technology/references/decrement"), routeMetrics.timed(ROUTE_DECREMENT_REFERENCE_COUNTS, technologyHandler::decrementTechnologyReferenceCounts));
     }
 
 }
@@ -0,0 +1,68 @@
+package com.example.resilient_api.infrastructure.entrypoints.decoder;
+
+// Conjunto de long con sondeo lineal, solo con altas
+final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+    // 0 marca una celda libre; el propio 0 se registra aparte
+    private static final long EMPTY = 0L;
+
+    private long[] slots;
+    private int size;
+    private boolean containsZero;
+
+    LongHashSet(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        this.slots = new long[capacity];
+    }
+
+    boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            return true;
+        }
+        if ((size + 1) * 2 > slots.length) {
+            resize();
+        }
+        if (!insert(slots, value)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    private void resize() {
+        long[] resized = new long[slots.length << 1];
+        for (long value : slots) {
+            if (value != EMPTY) {
+                insert(resized, value);
+            }
+        }
+        slots = resized;
+    }
+
+    private static boolean insert(long[] table, long value) {
+        int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        return true;
+    }
+
+    // Ids consecutivos caerían en celdas contiguas: se mezclan los bits antes de enmascarar
+    private static int mix(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.resilient_api.infrastructure.entrypoints.decoder;
+
+import com.example.resilient_api.domain.enums.TechnicalMessage;
+import com.example.resilient_api.domain.exceptions.BusinessException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.APPLICATION_SMILE_VALUE;
+
+// Lee el array "ids" de {"ids": [...]} a medida que llegan los bytes y lo emite en bloques long[]
+@Component
+public class StreamingIdsDecoder {
+
+    private static final String IDS_FIELD = "ids";
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final SmileFactory smileFactory = new SmileFactory();
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final int maxIds;
+    private final long maxBodyBytes;
+
+    public StreamingIdsDecoder(@Value("${technology.ids.max-count}") int maxIds,
+                               @Value("${technology.ids.max-body-size}") DataSize maxBodySize) {
+        this.maxIds = maxIds;
+        this.maxBodyBytes = maxBodySize.toBytes();
+    }
+
+    public Flux<long[]> decodeIdChunks(ServerRequest request, int chunkSize, boolean distinct) {
+        MediaType contentType = request.headers().contentType().orElse(MediaType.APPLICATION_JSON);
+        if (contentType.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+            // Jackson no tiene parser CBOR no bloqueante: se junta el cuerpo, hasta max-body-size
+            return DataBufferUtils.join(request.body(BodyExtractors.toDataBuffers()),
+                            (int) Math.min(maxBodyBytes, Integer.MAX_VALUE))
+                    .onErrorMap(DataBufferLimitException.class,
+                            ex -> new BusinessException(TechnicalMessage.REQUEST_BODY_TOO_LARGE))
+                    .flatMapIterable(buffer -> decodeBuffered(buffer, chunkSize, distinct));
+        }
+        JsonFactory factory = contentType.equalsTypeAndSubtype(APPLICATION_SMILE) ? smileFactory : jsonFactory;
+        return Flux.defer(() -> {
+            IdsTokenizer tokenizer = new IdsTokenizer(createParser(factory), new IdChunks(chunkSize, distinct));
+            return request.body(BodyExtractors.toDataBuffers())
+                    .map(StreamingIdsDecoder::readAndRelease)
+                    .concatMapIterable(tokenizer::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.finish())))
+                    .doFinally(signal -> tokenizer.close());
+        });
+    }
+
+    private List<long[]> decodeBuffered(DataBuffer buffer, int chunkSize, boolean distinct) {
+        try (InputStream input = buffer.asInputStream(true)) {
+            IdsTokenizer tokenizer = new IdsTokenizer(cborFactory.createParser(input), new IdChunks(chunkSize, distinct));
+            try {
+                return tokenizer.finish();
+            } finally {
+                tokenizer.close();
+            }
+        } catch (IOException ex) {
+            throw new BusinessException(TechnicalMessage.INVALID_REQUEST);
+        }
+    }
+
+    // Único punto donde se libera cada buffer del cuerpo
+    private static byte[] readAndRelease(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static JsonParser createParser(JsonFactory factory) {
+        try {
+            return factory.createNonBlockingByteArrayParser();
+        } catch (IOException ex) {
+            throw new BusinessException(TechnicalMessage.INVALID_REQUEST);
+        }
+    }
+
+    private static final class IdChunks {
+
+        private final int chunkSize;
+        private final LongHashSet seen;
+        private final List<long[]> completed = new ArrayList<>();
+        private long[] current;
+        private int length;
+
+        private IdChunks(int chunkSize, boolean distinct) {
+            this.chunkSize = chunkSize;
+            this.seen = distinct ? new LongHashSet(chunkSize) : null;
+            this.current = new long[chunkSize];
+        }
+
+        private void add(long id) {
+            if (seen != null && !seen.add(id)) {
+                return;
+            }
+            current[length++] = id;
+            if (length == chunkSize) {
+                completed.add(current);
+                current = new long[chunkSize];
+                length = 0;
+            }
+        }
+
+        private List<long[]> takeCompleted() {
+            if (completed.isEmpty()) {
+                return new ArrayList<>();
+            }
+            List<long[]> taken = new ArrayList<>(completed);
+            completed.clear();
+            return taken;
+        }
+
+        private List<long[]> finish() {
+            return length == 0 ? List.of() : List.of(Arrays.copyOf(current, length));
+        }
+    }
+
+    private final class IdsTokenizer {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final IdChunks chunks;
+        private long receivedBytes;
+        private int idCount;
+        private int depth;
+        private boolean rootStarted;
+        private boolean rootClosed;
+        private boolean idsFieldPending;
+        private boolean inIds;
+
+        private IdsTokenizer(JsonParser parser, IdChunks chunks) {
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            this.chunks = chunks;
+        }
+
+        private List<long[]> feed(byte[] bytes) {
+            receivedBytes += bytes.length;
+            if (receivedBytes > maxBodyBytes) {
+                throw new BusinessException(TechnicalMessage.REQUEST_BODY_TOO_LARGE);
+            }
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                drain();
+                return chunks.takeCompleted();
+            } catch (IOException ex) {
+                throw new BusinessException(TechnicalMessage.INVALID_REQUEST);
+            }
+        }
+
+        private List<long[]> finish() {
+            try {
+                if (feeder != null) {
+                    feeder.endOfInput();
+                }
+                drain();
+                // Cuerpo vacío equivale a una lista vacía; un documento sin cerrar es inválido
+                if (rootStarted && !rootClosed) {
+                    throw new BusinessException(TechnicalMessage.INVALID_REQUEST);
+                }
+                List<long[]> remaining = chunks.takeCompleted();
+                remaining.addAll(chunks.finish());
+                return remaining;
+            } catch (IOException ex) {
+                throw new BusinessException(TechnicalMessage.INVALID_REQUEST);
+            }
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                accept(token);
+            }
+        }
+
+        private void accept(JsonToken token) throws IOException {
+            if (inIds) {
+                acceptId(token);
+                return;
+            }
+            if (rootClosed || (!rootStarted && token != JsonToken.START_OBJECT)) {
+                throw new BusinessException(TechnicalMessage.INVALID_REQUEST);
+            }
+            boolean idsValue = idsFieldPending;
+            idsFieldPending = false;
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    if (idsValue && token == JsonToken.START_ARRAY) {
+                        inIds = true;
+                    } else if (idsValue) {
+                        throw new BusinessException(TechnicalMessage.TECHNOLOGY_IDS_INVALID);
+                    }
+                    rootStarted = true;
+                    depth++;
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    depth--;
+                    rootClosed = depth == 0;
+                }
+                case FIELD_NAME -> idsFieldPending = depth == 1 && IDS_FIELD.equals(parser.currentName());
+                case VALUE_NULL -> {
+                    // "ids": null se trata como lista vacía
+                }
+                default -> {
+                    if (idsValue) {
+                        throw new BusinessException(TechnicalMessage.TECHNOLOGY_IDS_INVALID);
+                    }
+                }
+            }
+        }
+
+        private void acceptId(JsonToken token) throws IOException {
+            if (token == JsonToken.END_ARRAY) {
+                inIds = false;
+                depth--;
+                return;
+            }
+            if (token != JsonToken.VALUE_NUMBER_INT) {
+                throw new BusinessException(TechnicalMessage.TECHNOLOGY_IDS_INVALID);
+            }
+            // Un entero fuera de rango de long no es un id válido (no un error de sintaxis)
+            if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                throw new BusinessException(TechnicalMessage.TECHNOLOGY_IDS_INVALID);
+            }
+            if (++idCount > maxIds) {
+                throw new BusinessException(TechnicalMessage.TECHNOLOGY_IDS_TOO_MANY);
+            }
+            chunks.add(parser.getLongValue());
+        }
+
+        private void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // El parser no retiene recursos externos
+            }
+        }
+    }
+}
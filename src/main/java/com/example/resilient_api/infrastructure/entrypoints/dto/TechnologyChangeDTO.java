@@ -0,0 +1,16 @@
+package com.example.resilient_api.infrastructure.entrypoints.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TechnologyChangeDTO {
+    private Long seq;
+    private String type;
+    private Long id;
+    private String name;
+    private String description;
+}
@@ -0,0 +1,15 @@
+package com.example.resilient_api.infrastructure.entrypoints.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TechnologyPageDTO {
+    private List<TechnologyDTO> items;
+    private String nextCursor;
+}
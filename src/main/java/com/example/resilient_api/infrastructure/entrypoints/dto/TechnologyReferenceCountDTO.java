@@ -0,0 +1,11 @@
+package com.example.resilient_api.infrastructure.entrypoints.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder(toBuilder = true)
+public class TechnologyReferenceCountDTO {
+    private Long id;
+    private int refCount;
+}
@@ -0,0 +1,18 @@
+package com.example.resilient_api.infrastructure.entrypoints.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+public class TechnologyReferencesDTO {
+    // Tecnologías que siguen existiendo, con su contador tras el ajuste
+    private List<TechnologyReferenceCountDTO> references;
+    // Tecnologías cuyo contador llegó a cero y se eliminaron en la misma transacción
+    private List<Long> deletedIds;
+    private int deletedCount;
+    // Ids solicitados que no existen
+    private List<Long> missingIds;
+}
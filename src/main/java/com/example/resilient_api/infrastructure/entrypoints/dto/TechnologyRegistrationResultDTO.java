@@ -0,0 +1,17 @@
+package com.example.resilient_api.infrastructure.entrypoints.dto;
+
+import com.example.resilient_api.infrastructure.entrypoints.util.ErrorDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TechnologyRegistrationResultDTO {
+    private int index;
+    private Long id;
+    private String name;
+    private String status;
+    private ErrorDTO error;
+}
@@ -0,0 +1,13 @@
+package com.example.resilient_api.infrastructure.entrypoints.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+public class TechnologySnapshotDTO {
+    private Long seq;
+    private List<TechnologyDTO> technologies;
+}
@@ -0,0 +1,45 @@
+package com.example.resilient_api.infrastructure.entrypoints.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.X_MESSAGE_ID;
+
+@Component
+@Slf4j(topic = "technology.access")
+public class AccessLogFilter implements WebFilter {
+
+    private final double sampleRate;
+
+    public AccessLogFilter(@Value("${logging.access.sample-rate}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    // Access log muestreado: solo una fracción de las peticiones genera una línea (vía appender asíncrono)
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!log.isInfoEnabled() || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return chain.filter(exchange);
+        }
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doFinally(signal -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    log.info("{} {} {} {}ms messageId={}",
+                            exchange.getRequest().getMethod(),
+                            exchange.getRequest().getPath().value(),
+                            status != null ? status.value() : "-",
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                            exchange.getRequest().getHeaders().getFirst(X_MESSAGE_ID));
+                });
+    }
+}
@@ -0,0 +1,386 @@
+package com.example.resilient_api.infrastructure.entrypoints.filter;
+
+import com.example.resilient_api.domain.model.JwtPayload;
+import com.example.resilient_api.infrastructure.adapters.idempotency.CapturedResponse;
+import com.example.resilient_api.infrastructure.adapters.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.X_MESSAGE_ID;
+
+// Va después de la cadena de Spring Security (orden -100): la clave incluye al autenticado
+@Component
+@Order(0)
+@Slf4j
+public class IdempotencyFilter implements WebFilter {
+
+    public static final String REPLAYED_HEADER = "x-idempotent-replayed";
+    private static final int MAX_MESSAGE_ID_LENGTH = 200;
+    private static final String REPLAYS_METRIC = "technology.idempotency.replays";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String ANONYMOUS = "anonymous";
+    private static final Duration CLAIM_POLL_INTERVAL = Duration.ofMillis(100);
+
+    private final IdempotencyStore idempotencyStore;
+    private final boolean enabled;
+    private final Set<String> paths;
+    private final long maxBodyBytes;
+    private final int maxRequestBytes;
+    private final Duration inFlightTimeout;
+    private final Map<String, Mono<CapturedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter storedReplays;
+    private final Counter inFlightReplays;
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore,
+                             MeterRegistry meterRegistry,
+                             @Value("${technology.idempotency.enabled}") boolean enabled,
+                             @Value("${technology.idempotency.paths}") Set<String> paths,
+                             @Value("${technology.idempotency.max-body-size}") DataSize maxBodySize,
+                             @Value("${technology.idempotency.max-request-size}") DataSize maxRequestSize,
+                             @Value("${technology.idempotency.in-flight-timeout}") Duration inFlightTimeout) {
+        this.idempotencyStore = idempotencyStore;
+        this.enabled = enabled;
+        this.paths = Set.copyOf(paths);
+        this.maxBodyBytes = maxBodySize.toBytes();
+        this.maxRequestBytes = Math.toIntExact(maxRequestSize.toBytes());
+        this.inFlightTimeout = inFlightTimeout;
+        this.storedReplays = Counter.builder(REPLAYS_METRIC).tag("source", "store").register(meterRegistry);
+        this.inFlightReplays = Counter.builder(REPLAYS_METRIC).tag("source", "in-flight").register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String messageId = exchange.getRequest().getHeaders().getFirst(X_MESSAGE_ID);
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        if (!enabled
+                || exchange.getRequest().getMethod() != HttpMethod.POST
+                || !paths.contains(path)
+                || messageId == null || messageId.isBlank() || messageId.length() > MAX_MESSAGE_ID_LENGTH) {
+            return chain.filter(exchange);
+        }
+
+        return exchange.getPrincipal()
+                .map(IdempotencyFilter::subject)
+                .defaultIfEmpty(ANONYMOUS)
+                .flatMap(subject -> process(exchange, chain,
+                        String.join(" ", HttpMethod.POST.name(), path, subject, messageId), messageId));
+    }
+
+    private Mono<Void> process(ServerWebExchange exchange, WebFilterChain chain, String key, String messageId) {
+        Sinks.One<CapturedResponse> result = Sinks.one();
+        Mono<CapturedResponse> pending = result.asMono();
+        Mono<CapturedResponse> running = inFlight.putIfAbsent(key, pending);
+        if (running != null) {
+            return awaitInFlight(exchange, chain, running, key, messageId);
+        }
+
+        AtomicBoolean claimed = new AtomicBoolean();
+        long deadline = System.nanoTime() + inFlightTimeout.toNanos();
+        return claimOrFind(key, messageId, claimed, deadline)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(stored -> {
+                    if (stored.isEmpty()) {
+                        return execute(exchange, chain, key, messageId, result, claimed.get());
+                    }
+                    result.tryEmitValue(stored.get());
+                    return replayStored(exchange, stored.get(), messageId);
+                })
+                .onErrorResume(TimeoutException.class, ex -> rejectInProgress(exchange, messageId))
+                .doFinally(signal -> {
+                    inFlight.remove(key, pending);
+                    result.tryEmitEmpty();
+                });
+    }
+
+    private Mono<CapturedResponse> claimOrFind(String key, String messageId, AtomicBoolean claimed, long deadline) {
+        return idempotencyStore.claim(key)
+                .onErrorResume(ex -> {
+                    log.warn("Idempotency store claim failed for messageId: {}, executing without claim",
+                            messageId, ex);
+                    return Mono.empty();
+                })
+                .flatMap(owned -> {
+                    if (Boolean.TRUE.equals(owned)) {
+                        claimed.set(true);
+                        return Mono.<CapturedResponse>empty();
+                    }
+                    return idempotencyStore.find(key)
+                            .switchIfEmpty(Mono.defer(() -> System.nanoTime() - deadline >= 0
+                                    ? Mono.error(new TimeoutException())
+                                    : Mono.delay(CLAIM_POLL_INTERVAL)
+                                            .then(claimOrFind(key, messageId, claimed, deadline))));
+                });
+    }
+
+    private Mono<Void> execute(ServerWebExchange exchange, WebFilterChain chain, String key, String messageId,
+                               Sinks.One<CapturedResponse> result, boolean claimed) {
+        DigestingRequest request = new DigestingRequest(exchange.getRequest());
+        CapturingResponse response = new CapturingResponse(exchange.getResponse(), maxBodyBytes);
+        return chain.filter(exchange.mutate().request(request).response(response).build())
+                .then(Mono.defer(() -> {
+                    CapturedResponse captured = response.capture(request.completedDigest());
+                    if (captured == null || !isReplayable(captured.status())) {
+                        return release(key, messageId, claimed);
+                    }
+                    result.tryEmitValue(captured);
+                    return idempotencyStore.save(key, captured)
+                            .onErrorResume(ex -> {
+                                log.warn("Could not store idempotent response for messageId: {}", messageId, ex);
+                                return release(key, messageId, claimed);
+                            });
+                }))
+                .onErrorResume(ex -> release(key, messageId, claimed).then(Mono.error(ex)))
+                .doOnCancel(() -> release(key, messageId, claimed).subscribe());
+    }
+
+    private Mono<Void> release(String key, String messageId, boolean claimed) {
+        if (!claimed) {
+            return Mono.empty();
+        }
+        return idempotencyStore.release(key)
+                .onErrorResume(ex -> {
+                    log.warn("Could not release idempotency claim for messageId: {}", messageId, ex);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> awaitInFlight(ServerWebExchange exchange, WebFilterChain chain,
+                                     Mono<CapturedResponse> running, String key, String messageId) {
+        log.debug("Waiting for in-flight request with messageId: {}", messageId);
+        return DataBufferUtils.join(exchange.getRequest().getBody(), maxRequestBytes)
+                .map(IdempotencyFilter::readBytes)
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> running
+                        .timeout(inFlightTimeout)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(captured -> {
+                            if (captured.isEmpty()) {
+                                return process(exchange.mutate()
+                                        .request(new ReplayedBodyRequest(exchange.getRequest(), body))
+                                        .build(), chain, key, messageId);
+                            }
+                            if (!MessageDigest.isEqual(captured.get().requestDigest(), sha256(body))) {
+                                return rejectDifferentBody(exchange, messageId);
+                            }
+                            inFlightReplays.increment();
+                            return replay(exchange, captured.get());
+                        }))
+                .onErrorResume(TimeoutException.class, ex -> rejectInProgress(exchange, messageId))
+                .onErrorResume(DataBufferLimitException.class, ex -> {
+                    log.warn("Duplicate request body for messageId: {} exceeds {} bytes", messageId, maxRequestBytes);
+                    exchange.getResponse().setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+                    return exchange.getResponse().setComplete();
+                });
+    }
+
+    private Mono<Void> replayStored(ServerWebExchange exchange, CapturedResponse stored, String messageId) {
+        return exchange.getRequest().getBody()
+                .collect(IdempotencyFilter::newDigest, (digest, buffer) -> {
+                    try {
+                        update(digest, buffer);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .flatMap(digest -> {
+                    if (!MessageDigest.isEqual(stored.requestDigest(), digest.digest())) {
+                        return rejectDifferentBody(exchange, messageId);
+                    }
+                    storedReplays.increment();
+                    return replay(exchange, stored);
+                });
+    }
+
+    private Mono<Void> rejectInProgress(ServerWebExchange exchange, String messageId) {
+        log.warn("Request with messageId: {} is still in progress, rejecting duplicate", messageId);
+        exchange.getResponse().setStatusCode(HttpStatus.CONFLICT);
+        return exchange.getResponse().setComplete();
+    }
+
+    private Mono<Void> rejectDifferentBody(ServerWebExchange exchange, String messageId) {
+        log.warn("messageId: {} was already used with a different request body", messageId);
+        exchange.getResponse().setStatusCode(HttpStatus.UNPROCESSABLE_ENTITY);
+        return exchange.getResponse().setComplete();
+    }
+
+    private Mono<Void> replay(ServerWebExchange exchange, CapturedResponse captured) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(captured.status()));
+        if (captured.contentType() != null) {
+            response.getHeaders().setContentType(MediaType.parseMediaType(captured.contentType()));
+        }
+        response.getHeaders().set(REPLAYED_HEADER, "true");
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(captured.body())));
+    }
+
+    private static String subject(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof JwtPayload payload
+                && payload.userId() != null) {
+            return "user:" + payload.userId();
+        }
+        return principal.getName();
+    }
+
+    // 5xx y 429 son fallos transitorios: el reintento debe volver a ejecutarse
+    private static boolean isReplayable(int status) {
+        return status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", ex);
+        }
+    }
+
+    private static byte[] sha256(byte[] body) {
+        return newDigest().digest(body);
+    }
+
+    private static void update(MessageDigest digest, DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                digest.update(iterator.next());
+            }
+        }
+    }
+
+    private static byte[] readBytes(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    // El digest solo vale si el handler leyó el cuerpo completo
+    private static final class DigestingRequest extends ServerHttpRequestDecorator {
+
+        private final MessageDigest digest = newDigest();
+        private volatile boolean complete;
+
+        private DigestingRequest(ServerHttpRequest delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return super.getBody()
+                    .doOnNext(buffer -> update(digest, buffer))
+                    .doOnComplete(() -> complete = true);
+        }
+
+        private byte[] completedDigest() {
+            return complete ? digest.digest() : null;
+        }
+    }
+
+    private static final class ReplayedBodyRequest extends ServerHttpRequestDecorator {
+
+        private final byte[] body;
+
+        private ReplayedBodyRequest(ServerHttpRequest delegate, byte[] body) {
+            super(delegate);
+            this.body = body;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+        }
+    }
+
+    // Una respuesta mayor que maxBodyBytes se envía pero no se guarda
+    private static final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final long maxBodyBytes;
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private boolean overflow;
+        private volatile boolean written;
+
+        private CapturingResponse(ServerHttpResponse delegate, long maxBodyBytes) {
+            super(delegate);
+            this.maxBodyBytes = maxBodyBytes;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return super.writeWith(Flux.from(body)
+                    .doOnNext(this::copy)
+                    .doOnComplete(() -> written = true));
+        }
+
+        private void copy(DataBuffer buffer) {
+            if (overflow) {
+                return;
+            }
+            if (body.size() + (long) buffer.readableByteCount() > maxBodyBytes) {
+                overflow = true;
+                body.reset();
+                return;
+            }
+            try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                while (iterator.hasNext()) {
+                    ByteBuffer chunk = iterator.next();
+                    byte[] bytes = new byte[chunk.remaining()];
+                    chunk.get(bytes);
+                    body.writeBytes(bytes);
+                }
+            }
+        }
+
+        private CapturedResponse capture(byte[] requestDigest) {
+            if (!written || overflow || requestDigest == null) {
+                return null;
+            }
+            HttpStatusCode status = getStatusCode();
+            MediaType contentType = getHeaders().getContentType();
+            return new CapturedResponse(status != null ? status.value() : HttpStatus.OK.value(),
+                    contentType != null ? contentType.toString() : null, body.toByteArray(), requestDigest);
+        }
+    }
+}
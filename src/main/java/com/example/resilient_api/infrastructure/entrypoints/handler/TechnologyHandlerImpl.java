@@ -1,43 +1,124 @@
 package com.example.resilient_api.infrastructure.entrypoints.handler;
 
+import com.example.resilient_api.domain.api.TechnologyChangeServicePort;
 import com.example.resilient_api.domain.api.TechnologyServicePort;
 import com.example.resilient_api.domain.enums.TechnicalMessage;
+import com.example.resilient_api.domain.enums.TechnologySortField;
 import com.example.resilient_api.domain.exceptions.BusinessException;
 import com.example.resilient_api.domain.exceptions.TechnicalException;
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyChange;
+import com.example.resilient_api.domain.model.TechnologyExistence;
+import com.example.resilient_api.domain.model.TechnologyPage;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.model.TechnologyReferenceCount;
+import com.example.resilient_api.domain.model.TechnologyRegistrationResult;
+import com.example.resilient_api.domain.model.TechnologySnapshot;
+import com.example.resilient_api.infrastructure.entrypoints.decoder.StreamingIdsDecoder;
+import com.example.resilient_api.infrastructure.entrypoints.dto.DeletedTechnologiesDTO;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyChangeDTO;
 import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyDTO;
-import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyIdsRequest;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyPageDTO;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyReferenceCountDTO;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyReferencesDTO;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyRegistrationResultDTO;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologySnapshotDTO;
 import com.example.resilient_api.infrastructure.entrypoints.mapper.TechnologyMapper;
+import com.example.resilient_api.infrastructure.entrypoints.resilience.RouteResilience;
 import com.example.resilient_api.infrastructure.entrypoints.util.APIResponse;
 import com.example.resilient_api.infrastructure.entrypoints.util.ErrorDTO;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.LongStream;
 
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.APPLICATION_SMILE_VALUE;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.REGISTRATION_CREATED;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.REGISTRATION_REJECTED;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_BULK;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_BY_ID;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_BY_IDS;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_CHECK_EXISTS;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_CREATE;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_DECREMENT_REFERENCE_COUNTS;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_DECREMENT_REFERENCES;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_INCREMENT_REFERENCE_COUNTS;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_LIST;
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.ROUTE_SNAPSHOT;
 import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.X_MESSAGE_ID;
 import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.TECHNOLOGY_ERROR;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class TechnologyHandlerImpl {
 
+    private static final List<MediaType> STREAMING_MEDIA_TYPES =
+            List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+    private static final List<MediaType> BINARY_MEDIA_TYPES =
+            List.of(MediaType.APPLICATION_CBOR, MediaType.parseMediaType(APPLICATION_SMILE_VALUE));
+    private static final String NAME_PARAM = "name";
+    private static final String SORT_PARAM = "sort";
+    private static final String SIZE_PARAM = "size";
+    private static final String CURSOR_PARAM = "cursor";
+    private static final String ID_PARAM = "id";
+    private static final String IDS_PARAM = "ids";
+    private static final String AFTER_PARAM = "after";
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    private static final String DEPRECATION_HEADER = "Deprecation";
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final TechnologyServicePort technologyServicePort;
+    private final TechnologyChangeServicePort technologyChangeServicePort;
     private final TechnologyMapper technologyMapper;
+    private final RouteResilience routeResilience;
+    private final StreamingIdsDecoder streamingIdsDecoder;
+    private final int idsChunkSize;
+
+    public TechnologyHandlerImpl(TechnologyServicePort technologyServicePort,
+                                 TechnologyChangeServicePort technologyChangeServicePort,
+                                 TechnologyMapper technologyMapper,
+                                 RouteResilience routeResilience,
+                                 StreamingIdsDecoder streamingIdsDecoder,
+                                 @Value("${technology.ids.chunk-size}") int idsChunkSize) {
+        this.technologyServicePort = technologyServicePort;
+        this.technologyChangeServicePort = technologyChangeServicePort;
+        this.technologyMapper = technologyMapper;
+        this.routeResilience = routeResilience;
+        this.streamingIdsDecoder = streamingIdsDecoder;
+        this.idsChunkSize = idsChunkSize;
+    }
 
     public Mono<ServerResponse> createTechnology(ServerRequest request) {
         String messageId = getMessageId(request);
         return request.bodyToMono(TechnologyDTO.class)
                 .flatMap(technology -> technologyServicePort.registerTechnology(
                         technologyMapper.technologyDTOToTechnology(technology), messageId)
-                        .doOnSuccess(savedTechnology -> log.info("Technology created successfully with messageId: {}", messageId))
+                        .transformDeferred(routeResilience.mono(ROUTE_CREATE))
+                        .doOnSuccess(savedTechnology -> log.debug("Technology created successfully with messageId: {}", messageId))
                 )
                 .flatMap(savedTechnology -> ServerResponse.status(HttpStatus.CREATED)
                         .bodyValue(TechnicalMessage.TECHNOLOGY_CREATED.getMessage()))
@@ -48,56 +129,239 @@ public class TechnologyHandlerImpl {
                 .onErrorResume(ex -> handleUnexpectedException(ex, messageId));
     }
 
+    public Mono<ServerResponse> registerTechnologies(ServerRequest request) {
+        String messageId = getMessageId(request);
+        // JSON array o NDJSON; se deja de leer en el primer elemento por encima del máximo
+        return request.bodyToFlux(TechnologyDTO.class)
+                .take(TechnologyServicePort.MAX_BULK_SIZE + 1L)
+                .map(technologyMapper::technologyDTOToTechnology)
+                .collectList()
+                .flatMap(technologies -> technologyServicePort.registerTechnologies(technologies, messageId)
+                        .transformDeferred(routeResilience.flux(ROUTE_BULK))
+                        .map(this::buildRegistrationResultDTO)
+                        .collectList()
+                        .doOnSuccess(results -> log.debug("Bulk registration processed {} technologies with messageId: {}",
+                                results.size(), messageId)))
+                .flatMap(results -> ServerResponse.status(HttpStatus.OK).bodyValue(results))
+                .contextWrite(Context.of(X_MESSAGE_ID, messageId))
+                .doOnError(ex -> log.error(TECHNOLOGY_ERROR, ex))
+                .onErrorResume(BusinessException.class, ex -> handleBusinessException(ex, messageId))
+                .onErrorResume(TechnicalException.class, ex -> handleTechnicalException(ex, messageId))
+                .onErrorResume(ex -> handleUnexpectedException(ex, messageId));
+    }
+
     public Mono<ServerResponse> checkTechnologiesExist(ServerRequest request) {
         String messageId = getMessageId(request);
-        return request.bodyToMono(TechnologyIdsRequest.class)
-                .flatMap(idsRequest -> {
-                    List<Long> ids = idsRequest.getIds() != null ? idsRequest.getIds() : List.of();
-                    return technologyServicePort.checkTechnologiesExist(ids, messageId)
-                            .doOnSuccess(result -> log.info("Technologies existence checked successfully with messageId: {}", messageId));
-                })
-                .flatMap(result -> ServerResponse.status(HttpStatus.OK).bodyValue(result))
+        MediaType responseMediaType = resolveResponseMediaType(request);
+        return streamingIdsDecoder.decodeIdChunks(request, idsChunkSize, true)
+                .concatMap(chunk -> technologyServicePort.checkTechnologiesExist(chunk, messageId)
+                        .transformDeferred(routeResilience.portMono(ROUTE_CHECK_EXISTS)))
+                .collectList()
+                .map(TechnologyExistence::concat)
+                .transformDeferred(routeResilience.admissionMono(ROUTE_CHECK_EXISTS))
+                .doOnSuccess(result -> log.debug("Technologies existence checked successfully with messageId: {}", messageId))
+                .flatMap(result -> ServerResponse.status(HttpStatus.OK)
+                        .contentType(responseMediaType)
+                        .bodyValue(result))
                 .contextWrite(Context.of(X_MESSAGE_ID, messageId))
                 .doOnError(ex -> log.error("Error checking technologies existence for messageId: {}", messageId, ex))
+                .onErrorResume(BusinessException.class, ex -> handleBusinessException(ex, messageId))
                 .onErrorResume(TechnicalException.class, ex -> handleTechnicalException(ex, messageId))
                 .onErrorResume(ex -> handleUnexpectedException(ex, messageId));
     }
 
     public Mono<ServerResponse> getTechnologiesByIds(ServerRequest request) {
         String messageId = getMessageId(request);
-        return request.bodyToMono(TechnologyIdsRequest.class)
-                .flatMapMany(idsRequest -> {
-                    List<Long> ids = idsRequest.getIds() != null ? idsRequest.getIds() : List.of();
-                    return technologyServicePort.getTechnologiesByIds(ids, messageId)
-                            .map(technology -> TechnologyDTO.builder()
-                                    .id(technology.id())
-                                    .name(technology.name())
-                                    .build())
-                            .doOnComplete(() -> log.info("Technologies retrieved successfully with messageId: {}", messageId));
+        MediaType streamingMediaType = resolveStreamingMediaType(request);
+        MediaType responseMediaType = resolveResponseMediaType(request);
+        return Mono.defer(() -> {
+                    Flux<TechnologyDTO> technologies = streamingIdsDecoder.decodeIdChunks(request, idsChunkSize, true)
+                            .concatMap(chunk -> technologyServicePort.getTechnologiesByIds(
+                                            LongStream.of(chunk).boxed().toList(), messageId)
+                                    .transformDeferred(routeResilience.portFlux(ROUTE_BY_IDS)))
+                            .transformDeferred(routeResilience.admissionFlux(ROUTE_BY_IDS))
+                            .map(technologyMapper::technologyToTechnologySummaryDTO)
+                            .doOnComplete(() -> log.debug("Technologies retrieved successfully with messageId: {}", messageId));
+                    if (streamingMediaType != null) {
+                        // Se espera la primera señal para que un rechazo todavía pueda responder 429/503
+                        return technologies
+                                .switchOnFirst((first, stream) -> first.isOnError()
+                                        ? Mono.<ServerResponse>error(first.getThrowable())
+                                        : ServerResponse.status(HttpStatus.OK)
+                                                .contentType(streamingMediaType)
+                                                .body(stream, TechnologyDTO.class), false)
+                                .single();
+                    }
+                    return technologies.collectList()
+                            .flatMap(technologyList -> ServerResponse.status(HttpStatus.OK)
+                                    .contentType(responseMediaType)
+                                    .bodyValue(technologyList));
                 })
-                .collectList()
-                .flatMap(technologies -> ServerResponse.status(HttpStatus.OK).bodyValue(technologies))
                 .contextWrite(Context.of(X_MESSAGE_ID, messageId))
                 .doOnError(ex -> log.error("Error getting technologies by ids for messageId: {}", messageId, ex))
+                .onErrorResume(BusinessException.class, ex -> handleBusinessException(ex, messageId))
                 .onErrorResume(TechnicalException.class, ex -> handleTechnicalException(ex, messageId))
                 .onErrorResume(ex -> handleUnexpectedException(ex, messageId));
     }
 
-    public Mono<ServerResponse> decrementTechnologyReferences(ServerRequest request) {
+    public Mono<ServerResponse> listTechnologies(ServerRequest request) {
         String messageId = getMessageId(request);
-        return request.bodyToMono(TechnologyIdsRequest.class)
-                .flatMap(idsRequest -> {
-                    List<Long> ids = idsRequest.getIds() != null ? idsRequest.getIds() : List.of();
-                    return technologyServicePort.decrementTechnologyReferences(ids, messageId)
-                            .doOnSuccess(v -> log.info("Technology references decremented successfully with messageId: {}", messageId));
+        return Mono.fromCallable(() -> buildPageQuery(request))
+                .flatMap(query -> conditionalOnCatalogVersion(request, messageId, ROUTE_LIST, eTag ->
+                        technologyServicePort.listTechnologies(query, messageId)
+                                .map(page -> buildPageDTO(page, query.sort()))
+                                .flatMap(page -> cacheableResponse(eTag).bodyValue(page))))
+                .contextWrite(Context.of(X_MESSAGE_ID, messageId))
+                .doOnError(ex -> log.error("Error listing technologies for messageId: {}", messageId, ex))
+                .onErrorResume(BusinessException.class, ex -> handleBusinessException(ex, messageId))
+                .onErrorResume(TechnicalException.class, ex -> handleTechnicalException(ex, messageId))
+                .onErrorResume(ex -> handleUnexpectedException(ex, messageId));
+    }
+
+    public Mono<ServerResponse> getTechnologiesByIdsQuery(ServerRequest request) {
+        String messageId = getMessageId(request);
+        MediaType responseMediaType = resolveResponseMediaType(request);
+        return Mono.fromCallable(() -> parseIdsParam(request))
+                .flatMap(ids -> conditionalOnCatalogVersion(request, messageId, ROUTE_BY_IDS, eTag ->
+                        technologyServicePort.getTechnologiesByIds(ids, messageId)
+                                .map(technologyMapper::technologyToTechnologySummaryDTO)
+                                .collectList()
+                                .flatMap(technologyList -> cacheableResponse(eTag)
+                                        .contentType(responseMediaType)
+                                        .bodyValue(technologyList))))
+                .contextWrite(Context.of(X_MESSAGE_ID, messageId))
+                .doOnError(ex -> log.error("Error getting technologies by ids for messageId: {}", messageId, ex))
+                .onErrorResume(BusinessException.class, ex -> handleBusinessException(ex, messageId))
+                .onErrorResume(TechnicalException.class, ex -> handleTechnicalException(ex, messageId))
+                .onErrorResume(ex -> handleUnexpectedException(ex, messageId));
+    }
+
+    public Mono<ServerResponse> getTechnologyById(ServerRequest request) {
+        String messageId = getMessageId(request);
+        MediaType responseMediaType = resolveResponseMediaType(request);
+        return Mono.fromCallable(() -> parseId(request.pathVariable(ID_PARAM), TechnicalMessage.TECHNOLOGY_ID_INVALID))
+                .flatMap(id -> conditionalOnCatalogVersion(request, messageId, ROUTE_BY_ID, eTag ->
+                        technologyServicePort.getTechnologiesByIds(List.of(id), messageId)
+                                .next()
+                                .map(technologyMapper::technologyToTechnologyDTO)
+                                .flatMap(technology -> cacheableResponse(eTag)
+                                        .contentType(responseMediaType)
+                                        .bodyValue(technology))
+                                .switchIfEmpty(Mono.defer(() -> buildErrorResponse(
+                                        HttpStatus.NOT_FOUND,
+                                        messageId,
+                                        TechnicalMessage.TECHNOLOGY_NOT_FOUND,
+                                        List.of(buildErrorDTO(TechnicalMessage.TECHNOLOGY_NOT_FOUND)))))))
+                .contextWrite(Context.of(X_MESSAGE_ID, messageId))
+                .doOnError(ex -> log.error("Error getting technology by id for messageId: {}", messageId, ex))
+                .onErrorResume(BusinessException.class, ex -> handleBusinessException(ex, messageId))
+                .onErrorResume(TechnicalException.class, ex -> handleTechnicalException(ex, messageId))
+                .onErrorResume(ex -> handleUnexpectedException(ex, messageId));
+    }
+
+    public Mono<ServerResponse> streamTechnologyChanges(ServerRequest request) {
+        String messageId = getMessageId(request);
+        return Mono.fromCallable(() -> parseResumeSeq(request))
+                // La comprobación va antes de abrir el stream: una vez enviado el 200 ya no se puede responder 410
+                .flatMap(afterSeq -> afterSeq
+                        .map(seq -> technologyChangeServicePort.checkResumable(seq, messageId))
+                        .orElseGet(Mono::empty)
+                        .thenReturn(afterSeq))
+                .flatMap(afterSeq -> {
+                    Flux<ServerSentEvent<TechnologyChangeDTO>> changes = technologyChangeServicePort
+                            .streamChanges(afterSeq.orElse(null), messageId)
+                            .map(this::buildChangeEvent);
+                    Flux<ServerSentEvent<TechnologyChangeDTO>> heartbeats = Flux.interval(HEARTBEAT_INTERVAL)
+                            .map(tick -> ServerSentEvent.<TechnologyChangeDTO>builder().comment("heartbeat").build());
+                    // Sin resiliencia por ruta: es una conexión de larga duración y el time limiter la cortaría
+                    return ServerResponse.ok()
+                            .contentType(MediaType.TEXT_EVENT_STREAM)
+                            .body(Flux.merge(changes, heartbeats)
+                                            .doOnError(ex -> log.error("Technology change stream failed for messageId: {}",
+                                                    messageId, ex))
+                                            .contextWrite(Context.of(X_MESSAGE_ID, messageId)),
+                                    new ParameterizedTypeReference<ServerSentEvent<TechnologyChangeDTO>>() {
+                                    });
                 })
-                .flatMap(v -> ServerResponse.ok().bodyValue("References decremented successfully"))
+                .contextWrite(Context.of(X_MESSAGE_ID, messageId))
+                .onErrorResume(BusinessException.class,
+                        ex -> ex.getTechnicalMessage() == TechnicalMessage.TECHNOLOGY_CHANGES_EXPIRED
+                                ? buildErrorResponse(HttpStatus.GONE, messageId, ex.getTechnicalMessage(),
+                                        List.of(buildErrorDTO(ex.getTechnicalMessage())))
+                                : handleBusinessException(ex, messageId))
+                .onErrorResume(ex -> handleUnexpectedException(ex, messageId));
+    }
+
+    public Mono<ServerResponse> getTechnologySnapshot(ServerRequest request) {
+        String messageId = getMessageId(request);
+        MediaType responseMediaType = resolveResponseMediaType(request);
+        return conditionalOnCatalogVersion(request, messageId, ROUTE_SNAPSHOT, eTag ->
+                        technologyChangeServicePort.getSnapshot(messageId)
+                                .map(this::buildSnapshotDTO)
+                                .flatMap(snapshot -> cacheableResponse(eTag)
+                                        .contentType(responseMediaType)
+                                        .bodyValue(snapshot)))
+                .contextWrite(Context.of(X_MESSAGE_ID, messageId))
+                .doOnError(ex -> log.error("Error building technology snapshot for messageId: {}", messageId, ex))
+                .onErrorResume(TechnicalException.class, ex -> handleTechnicalException(ex, messageId))
+                .onErrorResume(ex -> handleUnexpectedException(ex, messageId));
+    }
+
+    // Obsoleto: borra sin mirar ref_count. capacity-api debe llamar a /technology/references/decrement
+    @SuppressWarnings("deprecation")
+    public Mono<ServerResponse> decrementTechnologyReferences(ServerRequest request) {
+        String messageId = getMessageId(request);
+        MediaType responseMediaType = resolveResponseMediaType(request);
+        return collectIds(streamingIdsDecoder.decodeIdChunks(request, idsChunkSize, false))
+                .flatMap(ids -> technologyServicePort.decrementTechnologyReferences(ids, messageId)
+                        .transformDeferred(routeResilience.mono(ROUTE_DECREMENT_REFERENCES))
+                        .doOnSuccess(deletedIds -> log.debug("Technology references decremented successfully with messageId: {}", messageId)))
+                .flatMap(deletedIds -> ServerResponse.ok().contentType(responseMediaType)
+                        .header(DEPRECATION_HEADER, "true")
+                        .bodyValue(DeletedTechnologiesDTO.builder()
+                        .deletedIds(deletedIds)
+                        .deletedCount(deletedIds.size())
+                        .build()))
                 .contextWrite(Context.of(X_MESSAGE_ID, messageId))
                 .doOnError(ex -> log.error("Error decrementing technology references for messageId: {}", messageId, ex))
+                .onErrorResume(BusinessException.class, ex -> handleBusinessException(ex, messageId))
+                .onErrorResume(TechnicalException.class, ex -> handleTechnicalException(ex, messageId))
+                .onErrorResume(ex -> handleUnexpectedException(ex, messageId));
+    }
+
+    public Mono<ServerResponse> incrementTechnologyReferenceCounts(ServerRequest request) {
+        return adjustTechnologyReferenceCounts(request, 1, ROUTE_INCREMENT_REFERENCE_COUNTS);
+    }
+
+    public Mono<ServerResponse> decrementTechnologyReferenceCounts(ServerRequest request) {
+        return adjustTechnologyReferenceCounts(request, -1, ROUTE_DECREMENT_REFERENCE_COUNTS);
+    }
+
+    private Mono<ServerResponse> adjustTechnologyReferenceCounts(ServerRequest request, int delta, String route) {
+        String messageId = getMessageId(request);
+        MediaType responseMediaType = resolveResponseMediaType(request);
+        // Sin distinct: un id repetido suma una referencia por aparición
+        return collectIds(streamingIdsDecoder.decodeIdChunks(request, idsChunkSize, false))
+                .flatMap(ids -> technologyServicePort.adjustTechnologyReferences(ids, delta, messageId)
+                        .transformDeferred(routeResilience.mono(route))
+                        .doOnSuccess(references -> log.debug("Technology reference counts adjusted by {} with messageId: {}", delta, messageId))
+                        .map(references -> buildReferencesDTO(ids, references)))
+                .flatMap(references -> ServerResponse.ok().contentType(responseMediaType).bodyValue(references))
+                .contextWrite(Context.of(X_MESSAGE_ID, messageId))
+                .doOnError(ex -> log.error("Error adjusting technology reference counts for messageId: {}", messageId, ex))
+                .onErrorResume(BusinessException.class, ex -> handleBusinessException(ex, messageId))
                 .onErrorResume(TechnicalException.class, ex -> handleTechnicalException(ex, messageId))
                 .onErrorResume(ex -> handleUnexpectedException(ex, messageId));
     }
 
+    private static Mono<List<Long>> collectIds(Flux<long[]> idChunks) {
+        return idChunks.collect(ArrayList::new, (ids, chunk) -> {
+            for (long id : chunk) {
+                ids.add(id);
+            }
+        });
+    }
+
     private Mono<ServerResponse> handleBusinessException(BusinessException ex, String messageId) {
         return buildErrorResponse(
                 HttpStatus.BAD_REQUEST,
@@ -107,6 +371,14 @@ public class TechnologyHandlerImpl {
     }
 
     private Mono<ServerResponse> handleTechnicalException(TechnicalException ex, String messageId) {
+        TechnicalMessage technicalMessage = ex.getTechnicalMessage();
+        if (RouteResilience.isLoadShedding(technicalMessage)) {
+            return buildErrorResponse(
+                    HttpStatus.valueOf(Integer.parseInt(technicalMessage.getCode())),
+                    messageId,
+                    technicalMessage,
+                    List.of(buildErrorDTO(technicalMessage)));
+        }
         return buildErrorResponse(
                 HttpStatus.INTERNAL_SERVER_ERROR,
                 messageId,
@@ -126,6 +398,172 @@ public class TechnologyHandlerImpl {
                         .build()));
     }
 
+    // Se lee antes que los datos, por lo que el ETag nunca es más nuevo que el cuerpo que acompaña
+    private Mono<ServerResponse> conditionalOnCatalogVersion(ServerRequest request, String messageId, String route,
+                                                             Function<String, Mono<ServerResponse>> responseWithETag) {
+        return technologyServicePort.getCatalogVersion(messageId)
+                .map(version -> "W/\"" + version + "\"")
+                .flatMap(eTag -> request.checkNotModified(eTag)
+                        .switchIfEmpty(Mono.defer(() -> responseWithETag.apply(eTag))))
+                .transformDeferred(routeResilience.mono(route));
+    }
+
+    private ServerResponse.BodyBuilder cacheableResponse(String eTag) {
+        return ServerResponse.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT);
+    }
+
+    private Optional<Long> parseResumeSeq(ServerRequest request) {
+        return request.queryParam(AFTER_PARAM)
+                .or(() -> Optional.ofNullable(request.headers().firstHeader(LAST_EVENT_ID_HEADER)))
+                .map(seq -> parseId(seq, TechnicalMessage.TECHNOLOGY_CHANGE_SEQ_INVALID));
+    }
+
+    private ServerSentEvent<TechnologyChangeDTO> buildChangeEvent(TechnologyChange change) {
+        return ServerSentEvent.builder(technologyMapper.technologyChangeToTechnologyChangeDTO(change))
+                .id(String.valueOf(change.seq()))
+                .event(change.type().name())
+                .build();
+    }
+
+    private TechnologySnapshotDTO buildSnapshotDTO(TechnologySnapshot snapshot) {
+        return TechnologySnapshotDTO.builder()
+                .seq(snapshot.seq())
+                .technologies(snapshot.technologies().stream()
+                        .map(technologyMapper::technologyToTechnologyDTO)
+                        .toList())
+                .build();
+    }
+
+    private TechnologyReferencesDTO buildReferencesDTO(List<Long> requestedIds, List<TechnologyReferenceCount> references) {
+        Set<Long> missingIds = new LinkedHashSet<>(requestedIds);
+        List<TechnologyReferenceCountDTO> remaining = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        for (TechnologyReferenceCount reference : references) {
+            missingIds.remove(reference.technologyId());
+            if (reference.deleted()) {
+                deletedIds.add(reference.technologyId());
+            } else {
+                remaining.add(TechnologyReferenceCountDTO.builder()
+                        .id(reference.technologyId())
+                        .refCount(reference.refCount())
+                        .build());
+            }
+        }
+        return TechnologyReferencesDTO.builder()
+                .references(remaining)
+                .deletedIds(deletedIds)
+                .deletedCount(deletedIds.size())
+                .missingIds(List.copyOf(missingIds))
+                .build();
+    }
+
+    private List<Long> parseIdsParam(ServerRequest request) {
+        // Acepta ids=1,2,3 y también ids=1&ids=2
+        List<Long> ids = new ArrayList<>();
+        for (String value : request.queryParams().getOrDefault(IDS_PARAM, List.of())) {
+            for (String id : value.split(",")) {
+                if (!id.isBlank()) {
+                    ids.add(parseId(id.trim(), TechnicalMessage.TECHNOLOGY_IDS_INVALID));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private long parseId(String id, TechnicalMessage error) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException ex) {
+            throw new BusinessException(error);
+        }
+    }
+
+    private TechnologyPageQuery buildPageQuery(ServerRequest request) {
+        TechnologySortField sort = request.queryParam(SORT_PARAM)
+                .map(this::parseSortField)
+                .orElse(TechnologySortField.ID);
+        int size = request.queryParam(SIZE_PARAM)
+                .map(this::parsePageSize)
+                .orElse(DEFAULT_PAGE_SIZE);
+        String namePrefix = request.queryParam(NAME_PARAM).orElse(null);
+        String cursor = request.queryParam(CURSOR_PARAM)
+                .map(this::decodeCursor)
+                .orElse(null);
+        if (cursor == null) {
+            return new TechnologyPageQuery(namePrefix, sort, null, null, size);
+        }
+        if (sort == TechnologySortField.NAME) {
+            return new TechnologyPageQuery(namePrefix, sort, null, cursor, size);
+        }
+        try {
+            return new TechnologyPageQuery(namePrefix, sort, Long.parseLong(cursor), null, size);
+        } catch (NumberFormatException ex) {
+            throw new BusinessException(TechnicalMessage.TECHNOLOGY_PAGE_CURSOR_INVALID);
+        }
+    }
+
+    private TechnologySortField parseSortField(String sort) {
+        try {
+            return TechnologySortField.valueOf(sort.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException(TechnicalMessage.TECHNOLOGY_PAGE_SORT_INVALID);
+        }
+    }
+
+    private int parsePageSize(String size) {
+        try {
+            return Integer.parseInt(size);
+        } catch (NumberFormatException ex) {
+            throw new BusinessException(TechnicalMessage.TECHNOLOGY_PAGE_SIZE_INVALID);
+        }
+    }
+
+    private String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException(TechnicalMessage.TECHNOLOGY_PAGE_CURSOR_INVALID);
+        }
+    }
+
+    private TechnologyPageDTO buildPageDTO(TechnologyPage page, TechnologySortField sort) {
+        List<TechnologyDTO> items = page.items().stream()
+                .map(technologyMapper::technologyToTechnologyDTO)
+                .toList();
+        // El cursor es la clave de orden del último elemento, opaca para el cliente
+        String nextCursor = null;
+        if (page.hasNext()) {
+            Technology last = page.items().get(page.items().size() - 1);
+            String key = sort == TechnologySortField.NAME ? last.name() : String.valueOf(last.id());
+            nextCursor = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(key.getBytes(StandardCharsets.UTF_8));
+        }
+        return TechnologyPageDTO.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private TechnologyRegistrationResultDTO buildRegistrationResultDTO(TechnologyRegistrationResult result) {
+        if (result.isRegistered()) {
+            return TechnologyRegistrationResultDTO.builder()
+                    .index(result.index())
+                    .id(result.technology().id())
+                    .name(result.technology().name())
+                    .status(REGISTRATION_CREATED)
+                    .build();
+        }
+        return TechnologyRegistrationResultDTO.builder()
+                .index(result.index())
+                .name(result.technology().name())
+                .status(REGISTRATION_REJECTED)
+                .error(buildErrorDTO(result.error()))
+                .build();
+    }
+
     private ErrorDTO buildErrorDTO(TechnicalMessage technicalMessage) {
         return ErrorDTO.builder()
                 .code(technicalMessage.getCode())
@@ -150,6 +588,21 @@ public class TechnologyHandlerImpl {
         });
     }
 
+    private MediaType resolveStreamingMediaType(ServerRequest serverRequest) {
+        return serverRequest.headers().accept().stream()
+                .flatMap(accepted -> STREAMING_MEDIA_TYPES.stream().filter(accepted::equalsTypeAndSubtype))
+                .findFirst()
+                .orElse(null);
+    }
+
+    // Las rutas funcionales no negocian el Accept por sí solas: sin Content-Type explícito siempre se escribe JSON
+    private MediaType resolveResponseMediaType(ServerRequest serverRequest) {
+        return serverRequest.headers().accept().stream()
+                .flatMap(accepted -> BINARY_MEDIA_TYPES.stream().filter(accepted::equalsTypeAndSubtype))
+                .findFirst()
+                .orElse(MediaType.APPLICATION_JSON);
+    }
+
     private String getMessageId(ServerRequest serverRequest) {
         return serverRequest.headers().firstHeader(X_MESSAGE_ID);
     }
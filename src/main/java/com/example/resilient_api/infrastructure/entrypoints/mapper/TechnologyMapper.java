@@ -1,10 +1,21 @@
 package com.example.resilient_api.infrastructure.entrypoints.mapper;
 
 import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyChange;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyChangeDTO;
 import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyDTO;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface TechnologyMapper {
     Technology technologyDTOToTechnology(TechnologyDTO technologyDTO);
+
+    TechnologyDTO technologyToTechnologyDTO(Technology technology);
+
+    @Mapping(target = "description", ignore = true)
+    TechnologyDTO technologyToTechnologySummaryDTO(Technology technology);
+
+    @Mapping(target = "id", source = "technologyId")
+    TechnologyChangeDTO technologyChangeToTechnologyChangeDTO(TechnologyChange technologyChange);
 }
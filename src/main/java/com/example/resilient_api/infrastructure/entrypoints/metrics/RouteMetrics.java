@@ -0,0 +1,50 @@
+package com.example.resilient_api.infrastructure.entrypoints.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class RouteMetrics {
+
+    private static final String ROUTE_METRIC = "technology.route";
+    private static final Duration[] LATENCY_SLOS = {
+            Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100),
+            Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2)
+    };
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public RouteMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Mide cada handler hasta construir la respuesta, etiquetado por ruta y status HTTP
+    public HandlerFunction<ServerResponse> timed(String route, HandlerFunction<ServerResponse> handler) {
+        return request -> Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return handler.handle(request)
+                    .doOnSuccess(response -> sample.stop(timer(route,
+                            response != null ? String.valueOf(response.statusCode().value()) : "none")))
+                    .doOnError(error -> sample.stop(timer(route, "error")));
+        });
+    }
+
+    private Timer timer(String route, String status) {
+        return timers.computeIfAbsent(route + ':' + status, key -> Timer.builder(ROUTE_METRIC)
+                .description("Latency of the technology functional routes")
+                .tag("route", route)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(LATENCY_SLOS)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.resilient_api.infrastructure.entrypoints.resilience;
+
+import com.example.resilient_api.domain.enums.TechnicalMessage;
+import com.example.resilient_api.domain.exceptions.TechnicalException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+@Component
+public class RouteResilience {
+
+    private static final String INSTANCE_PREFIX = "technology-";
+    private static final String RATE_LIMITER_NAME = "technology-api";
+    private static final String CIRCUIT_BREAKER_NAME = "technology-db";
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final RateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+
+    public RouteResilience(BulkheadRegistry bulkheadRegistry, TimeLimiterRegistry timeLimiterRegistry,
+                           RateLimiterRegistry rateLimiterRegistry, CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(RATE_LIMITER_NAME);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+    }
+
+    // De afuera hacia adentro: rate limiter global, bulkhead por ruta, circuit breaker de la BD y time limiter
+    public <T> Function<Mono<T>, Mono<T>> mono(String route) {
+        return mono -> mono
+                .transform(portMono(route))
+                .transform(admissionMono(route));
+    }
+
+    public <T> Function<Flux<T>, Flux<T>> flux(String route) {
+        return flux -> flux
+                .transform(portFlux(route))
+                .transform(admissionFlux(route));
+    }
+
+    // Las rutas que leen el cuerpo en streaming envuelven con esto solo las llamadas al puerto:
+    // una subida lenta no cuenta como timeout ni como fallo de la base
+    public <T> Function<Mono<T>, Mono<T>> portMono(String route) {
+        return mono -> mono
+                .transformDeferred(TimeLimiterOperator.of(timeLimiterRegistry.timeLimiter(INSTANCE_PREFIX + route)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(RouteResilience::isRejection, RouteResilience::toTechnicalException);
+    }
+
+    public <T> Function<Flux<T>, Flux<T>> portFlux(String route) {
+        return flux -> flux
+                .transformDeferred(TimeLimiterOperator.of(timeLimiterRegistry.timeLimiter(INSTANCE_PREFIX + route)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(RouteResilience::isRejection, RouteResilience::toTechnicalException);
+    }
+
+    // Y con esto la petición completa
+    public <T> Function<Mono<T>, Mono<T>> admissionMono(String route) {
+        return mono -> mono
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(INSTANCE_PREFIX + route)))
+                .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                .onErrorMap(RouteResilience::isRejection, RouteResilience::toTechnicalException);
+    }
+
+    public <T> Function<Flux<T>, Flux<T>> admissionFlux(String route) {
+        return flux -> flux
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(INSTANCE_PREFIX + route)))
+                .transformDeferred(RateLimiterOperator.of(rateLimiter))
+                .onErrorMap(RouteResilience::isRejection, RouteResilience::toTechnicalException);
+    }
+
+    public static boolean isLoadShedding(TechnicalMessage technicalMessage) {
+        return technicalMessage == TechnicalMessage.TOO_MANY_REQUESTS
+                || technicalMessage == TechnicalMessage.SERVICE_UNAVAILABLE
+                || technicalMessage == TechnicalMessage.SERVICE_TIMEOUT;
+    }
+
+    private static boolean isRejection(Throwable error) {
+        return error instanceof RequestNotPermitted
+                || error instanceof BulkheadFullException
+                || error instanceof CallNotPermittedException
+                || error instanceof TimeoutException;
+    }
+
+    private static Throwable toTechnicalException(Throwable error) {
+        if (error instanceof RequestNotPermitted) {
+            return new TechnicalException(error, TechnicalMessage.TOO_MANY_REQUESTS);
+        }
+        if (error instanceof TimeoutException) {
+            return new TechnicalException(error, TechnicalMessage.SERVICE_TIMEOUT);
+        }
+        return new TechnicalException(error, TechnicalMessage.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.resilient_api.infrastructure.entrypoints.serializer;
+
+import com.example.resilient_api.domain.model.TechnologyExistence;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+@JsonComponent
+public class TechnologyExistenceSerializer extends JsonSerializer<TechnologyExistence> {
+
+    // Escribe {"id": true|false, ...} directamente, sin construir un Map<Long, Boolean> intermedio
+    @Override
+    public void serialize(TechnologyExistence existence, JsonGenerator generator, SerializerProvider serializers)
+            throws IOException {
+        long[] ids = existence.ids();
+        generator.writeStartObject();
+        for (int index = 0; index < ids.length; index++) {
+            generator.writeFieldId(ids[index]);
+            generator.writeBoolean(existence.exists(index));
+        }
+        generator.writeEndObject();
+    }
+}
@@ -6,4 +6,18 @@ import lombok.experimental.UtilityClass;
 public class Constants {
     public static final String X_MESSAGE_ID = "x-message-id";
     public static final String TECHNOLOGY_ERROR = "Error on Technology - [ERROR]";
+    public static final String ROUTE_CREATE = "create";
+    public static final String ROUTE_BULK = "bulk";
+    public static final String ROUTE_CHECK_EXISTS = "check-exists";
+    public static final String ROUTE_BY_IDS = "by-ids";
+    public static final String ROUTE_BY_ID = "by-id";
+    public static final String ROUTE_CHANGES = "changes";
+    public static final String ROUTE_SNAPSHOT = "snapshot";
+    public static final String ROUTE_LIST = "list";
+    public static final String ROUTE_DECREMENT_REFERENCES = "decrement-references";
+    public static final String ROUTE_INCREMENT_REFERENCE_COUNTS = "references-increment";
+    public static final String ROUTE_DECREMENT_REFERENCE_COUNTS = "references-decrement";
+    public static final String REGISTRATION_CREATED = "CREATED";
+    public static final String REGISTRATION_REJECTED = "REJECTED";
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
 }
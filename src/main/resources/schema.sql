@@ -4,5 +4,81 @@ CREATE TABLE IF NOT EXISTS technologies (
     description VARCHAR(90) NOT NULL
 );
 
+-- Referencias desde capacity-api; al bajar de un valor positivo a cero la tecnología se elimina (ver /technology/references/*).
+-- Las filas existentes parten de 0 y no se borran por un decremento hasta que capacity-api las incremente
+ALTER TABLE technologies ADD COLUMN IF NOT EXISTS ref_count INT NOT NULL DEFAULT 0;
 
+-- Listado paginado por nombre: orden de bytes (COLLATE "C") con y sin prefijo, y el prefijo como rango sobre el mismo índice
+CREATE INDEX IF NOT EXISTS idx_technologies_name_c_id ON technologies (name COLLATE "C", id);
+DROP INDEX IF EXISTS idx_technologies_name_pattern_id;
+DROP INDEX IF EXISTS idx_technologies_name_pattern;
 
+-- La versión del catálogo (ETag) es ahora MAX(seq) de technology_changes: se retira la fila de versión
+DROP TRIGGER IF EXISTS technologies_catalog_version ON technologies;
+DROP FUNCTION IF EXISTS bump_technology_catalog_version();
+DROP TABLE IF EXISTS technology_catalog_version;
+
+-- Registro de cambios para el stream /technology/changes; seq permite reanudar desde el último evento visto
+CREATE TABLE IF NOT EXISTS technology_changes (
+    seq BIGSERIAL PRIMARY KEY,
+    technology_id BIGINT NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    name VARCHAR(50),
+    description VARCHAR(90),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- En una base nueva seq parte del epoch en ms, para que un ETag viejo no coincida tras recrearla
+SELECT setval('technology_changes_seq_seq', CAST(EXTRACT(EPOCH FROM clock_timestamp()) * 1000 AS BIGINT))
+WHERE NOT EXISTS (SELECT 1 FROM technology_changes)
+  AND NOT (SELECT is_called FROM technology_changes_seq_seq);
+
+CREATE OR REPLACE FUNCTION record_technology_change() RETURNS trigger LANGUAGE plpgsql AS '
+DECLARE
+    change technology_changes%ROWTYPE;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext(''technology_changes''));
+    IF TG_OP = ''INSERT'' THEN
+        INSERT INTO technology_changes (technology_id, change_type, name, description)
+        VALUES (NEW.id, ''CREATED'', NEW.name, NEW.description)
+        RETURNING * INTO change;
+    ELSE
+        INSERT INTO technology_changes (technology_id, change_type)
+        VALUES (OLD.id, ''DELETED'')
+        RETURNING * INTO change;
+    END IF;
+    PERFORM pg_notify(''technology_changes'', json_build_object(
+        ''seq'', change.seq,
+        ''technologyId'', change.technology_id,
+        ''changeType'', change.change_type,
+        ''name'', change.name,
+        ''description'', change.description)::text);
+    RETURN NULL;
+END;
+';
+
+-- El lock de transacción se toma antes de asignar el primer seq y se suelta en el commit: las transacciones que
+-- cambian el catálogo confirman en orden de seq, que es lo que necesitan MAX(seq) como versión y la reanudación
+-- por Last-Event-ID. Solo lo toman las filas insertadas o borradas; los cambios de ref_count no
+DROP TRIGGER IF EXISTS technologies_record_change ON technologies;
+CREATE TRIGGER technologies_record_change
+    AFTER INSERT OR DELETE ON technologies
+    FOR EACH ROW EXECUTE FUNCTION record_technology_change();
+
+-- Respuestas ya enviadas por x-message-id, para reenviarlas a los reintentos desde cualquier réplica
+-- (solo se usa con technology.idempotency.store=postgres). status NULL: clave reservada por una ejecución en curso
+CREATE TABLE IF NOT EXISTS idempotent_responses (
+    idempotency_key VARCHAR(512) PRIMARY KEY,
+    status INT,
+    content_type VARCHAR(255),
+    body BYTEA,
+    request_digest BYTEA,
+    expires_at TIMESTAMPTZ NOT NULL
+);
+
+ALTER TABLE idempotent_responses ADD COLUMN IF NOT EXISTS request_digest BYTEA;
+ALTER TABLE idempotent_responses ALTER COLUMN status DROP NOT NULL;
+ALTER TABLE idempotent_responses ALTER COLUMN body DROP NOT NULL;
+ALTER TABLE idempotent_responses ALTER COLUMN request_digest DROP NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_idempotent_responses_expires_at ON idempotent_responses (expires_at);
@@ -0,0 +1,57 @@
+package com.example.resilient_api.application.config;
+
+import com.example.resilient_api.domain.exceptions.BusinessException;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyChangeEntity;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyEntity;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyReferenceCountEntity;
+import com.example.resilient_api.infrastructure.entrypoints.dto.TechnologyDTO;
+import com.example.resilient_api.infrastructure.entrypoints.util.APIResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Comprueba en la JVM lo que registra TechnologyRuntimeHints; no sustituye a ejecutar la imagen nativa
+class TechnologyRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new TechnologyRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersJacksonBindingForRequestAndResponseBodies() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TechnologyDTO.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(APIResponse.class)).accepts(hints);
+    }
+
+    @Test
+    void registersR2dbcEntities() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TechnologyEntity.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TechnologyChangeEntity.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TechnologyReferenceCountEntity.class)).accepts(hints);
+    }
+
+    @Test
+    void registersJjwtImplementationAndServiceDescriptors() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(
+                TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParserBuilder"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Serializer")).accepts(hints);
+    }
+
+    @Test
+    void registersResilienceIgnoredException() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(BusinessException.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.resilient_api.domain.usecase;
+
+import com.example.resilient_api.domain.enums.TechnicalMessage;
+import com.example.resilient_api.domain.enums.TechnologySortField;
+import com.example.resilient_api.domain.exceptions.BusinessException;
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyPageQuery;
+import com.example.resilient_api.domain.spi.TechnologyChangePort;
+import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TechnologyChangeUseCaseTest {
+
+    private static final String MESSAGE_ID = "test-message";
+
+    private TechnologyChangePort technologyChangePort;
+    private TechnologyPersistencePort technologyPersistencePort;
+    private TechnologyChangeUseCase technologyChangeUseCase;
+
+    @BeforeEach
+    void setUp() {
+        technologyChangePort = mock(TechnologyChangePort.class);
+        technologyPersistencePort = mock(TechnologyPersistencePort.class);
+        technologyChangeUseCase = new TechnologyChangeUseCase(technologyChangePort, technologyPersistencePort);
+        when(technologyChangePort.findLastSeq()).thenReturn(Mono.just(20L));
+    }
+
+    @Test
+    void resumesWhenTheNextChangeIsStillRetained() {
+        when(technologyChangePort.findFirstSeq()).thenReturn(Mono.just(10L));
+
+        StepVerifier.create(technologyChangeUseCase.checkResumable(9L, MESSAGE_ID))
+                .verifyComplete();
+    }
+
+    @Test
+    void rejectsResumeSeqOlderThanRetainedHistory() {
+        when(technologyChangePort.findFirstSeq()).thenReturn(Mono.just(10L));
+
+        StepVerifier.create(technologyChangeUseCase.checkResumable(8L, MESSAGE_ID))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("technicalMessage")
+                        .isEqualTo(TechnicalMessage.TECHNOLOGY_CHANGES_EXPIRED))
+                .verify();
+    }
+
+    @Test
+    void resumesWhenThereIsNoHistory() {
+        when(technologyChangePort.findFirstSeq()).thenReturn(Mono.just(0L));
+        when(technologyChangePort.findLastSeq()).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(technologyChangeUseCase.checkResumable(0L, MESSAGE_ID))
+                .verifyComplete();
+    }
+
+    @Test
+    void rejectsResumeSeqAheadOfTheLastRecordedChange() {
+        when(technologyChangePort.findFirstSeq()).thenReturn(Mono.just(10L));
+
+        StepVerifier.create(technologyChangeUseCase.checkResumable(21L, MESSAGE_ID))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("technicalMessage")
+                        .isEqualTo(TechnicalMessage.TECHNOLOGY_CHANGES_EXPIRED))
+                .verify();
+    }
+
+    @Test
+    void snapshotReadsTheCatalogInIdPages() {
+        List<Technology> firstPage = LongStream.rangeClosed(1, 1000)
+                .mapToObj(id -> new Technology(id, "Technology " + id, "Description " + id))
+                .toList();
+        when(technologyPersistencePort.findPage(any(), anyInt())).thenAnswer(invocation -> {
+            TechnologyPageQuery query = invocation.getArgument(0);
+            return query.afterId() == null
+                    ? Flux.fromIterable(firstPage)
+                    : Flux.just(new Technology(1001L, "Technology 1001", "Description 1001"));
+        });
+
+        StepVerifier.create(technologyChangeUseCase.getSnapshot(MESSAGE_ID))
+                .assertNext(snapshot -> {
+                    assertThat(snapshot.seq()).isEqualTo(20L);
+                    assertThat(snapshot.technologies()).hasSize(1001);
+                })
+                .verifyComplete();
+        verify(technologyPersistencePort).findPage(
+                new TechnologyPageQuery(null, TechnologySortField.ID, 1000L, null, 1000), 1000);
+    }
+}
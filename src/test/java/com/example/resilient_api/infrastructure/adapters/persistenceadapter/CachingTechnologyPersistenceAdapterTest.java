@@ -0,0 +1,227 @@
+package com.example.resilient_api.infrastructure.adapters.persistenceadapter;
+
+import com.example.resilient_api.domain.enums.TechnologyChangeType;
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.model.TechnologyChange;
+import com.example.resilient_api.domain.spi.TechnologyChangePort;
+import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingTechnologyPersistenceAdapterTest {
+
+    private static final Duration GAP_GRACE_PERIOD = Duration.ofSeconds(2);
+
+    private TechnologyPersistencePort delegate;
+    private FakeTechnologyChangePort changePort;
+    private CachingTechnologyPersistenceAdapter adapter;
+    private VirtualTimeScheduler virtualTime;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(TechnologyPersistencePort.class);
+        when(delegate.findAllByIdIn(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return Flux.fromIterable(ids).map(CachingTechnologyPersistenceAdapterTest::technology);
+        });
+        changePort = new FakeTechnologyChangePort();
+        virtualTime = VirtualTimeScheduler.getOrSet();
+        adapter = new CachingTechnologyPersistenceAdapter(delegate, 100, Duration.ofMinutes(10),
+                changePort, GAP_GRACE_PERIOD, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        adapter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.dispose();
+        VirtualTimeScheduler.reset();
+    }
+
+    @Test
+    void servesCachedRowsWithoutHittingTheDelegate() {
+        load(1L);
+        load(1L);
+
+        verify(delegate, times(1)).findAllByIdIn(anyList());
+    }
+
+    @Test
+    void changeEventEvictsOnlyTheChangedTechnology() {
+        load(1L);
+        load(2L);
+
+        changePort.emit(new TechnologyChange(1, TechnologyChangeType.DELETED, 1L, "Technology 1", null));
+        load(1L);
+        load(2L);
+
+        verify(delegate, times(2)).findAllByIdIn(List.of(1L));
+        verify(delegate, times(1)).findAllByIdIn(List.of(2L));
+    }
+
+    @Test
+    void gapLeftByARolledBackInsertDoesNotInvalidateTheCache() {
+        load(1L);
+        load(2L);
+
+        changePort.emit(new TechnologyChange(1, TechnologyChangeType.CREATED, 4L, "Technology 4", null));
+        // seq 2 se consumió en una transacción revertida: no existe en la tabla
+        changePort.emit(new TechnologyChange(3, TechnologyChangeType.CREATED, 5L, "Technology 5", null));
+        virtualTime.advanceTimeBy(GAP_GRACE_PERIOD);
+        load(1L);
+        load(2L);
+
+        verify(delegate, times(1)).findAllByIdIn(List.of(1L));
+        verify(delegate, times(1)).findAllByIdIn(List.of(2L));
+    }
+
+    @Test
+    void changeMissingFromTheStreamIsEvictedAfterTheGracePeriod() {
+        load(1L);
+        load(2L);
+
+        changePort.emit(new TechnologyChange(1, TechnologyChangeType.CREATED, 4L, "Technology 4", null));
+        changePort.storeWithoutNotifying(new TechnologyChange(2, TechnologyChangeType.DELETED, 1L, "Technology 1", null));
+        changePort.emit(new TechnologyChange(3, TechnologyChangeType.CREATED, 5L, "Technology 5", null));
+        load(1L);
+        virtualTime.advanceTimeBy(GAP_GRACE_PERIOD);
+        load(1L);
+        load(2L);
+
+        verify(delegate, times(2)).findAllByIdIn(List.of(1L));
+        verify(delegate, times(1)).findAllByIdIn(List.of(2L));
+    }
+
+    @Test
+    void consecutiveChangesDoNotInvalidateUnrelatedRows() {
+        load(1L);
+
+        changePort.emit(new TechnologyChange(1, TechnologyChangeType.CREATED, 4L, "Technology 4", null));
+        changePort.emit(new TechnologyChange(2, TechnologyChangeType.CREATED, 5L, "Technology 5", null));
+        load(1L);
+
+        verify(delegate, times(1)).findAllByIdIn(List.of(1L));
+    }
+
+    @Test
+    void catalogVersionAdvancesWithChangeEventsWithoutQueryingTheDatabase() {
+        when(delegate.findCatalogVersion()).thenReturn(Mono.just(1L));
+        StepVerifier.create(adapter.findCatalogVersion()).expectNext(1L).verifyComplete();
+
+        changePort.emit(new TechnologyChange(2, TechnologyChangeType.CREATED, 4L, "Technology 4", null));
+
+        StepVerifier.create(adapter.findCatalogVersion()).expectNext(2L).verifyComplete();
+        verify(delegate, times(1)).findCatalogVersion();
+    }
+
+    @Test
+    void catalogVersionReadFromTheDatabaseEvictsChangesMissedByTheListener() {
+        CachingTechnologyPersistenceAdapter refreshingAdapter = new CachingTechnologyPersistenceAdapter(delegate, 100,
+                Duration.ofMinutes(10), changePort, GAP_GRACE_PERIOD, Duration.ZERO, new SimpleMeterRegistry());
+        refreshingAdapter.start();
+        when(delegate.findCatalogVersion()).thenReturn(Mono.just(1L), Mono.just(2L));
+        StepVerifier.create(refreshingAdapter.findCatalogVersion()).expectNext(1L).verifyComplete();
+        StepVerifier.create(refreshingAdapter.findAllByIdIn(List.of(1L))).expectNextCount(1).verifyComplete();
+
+        changePort.storeWithoutNotifying(new TechnologyChange(2, TechnologyChangeType.DELETED, 1L, "Technology 1", null));
+
+        StepVerifier.create(refreshingAdapter.findCatalogVersion()).expectNext(2L).verifyComplete();
+        StepVerifier.create(refreshingAdapter.findAllByIdIn(List.of(1L))).expectNextCount(1).verifyComplete();
+        verify(delegate, times(2)).findAllByIdIn(List.of(1L));
+        refreshingAdapter.dispose();
+    }
+
+    @Test
+    void deleteWithNullIdsEvictsTheOthers() {
+        when(delegate.deleteAllByIdIn(anyList())).thenReturn(Flux.just(1L));
+        load(1L);
+
+        StepVerifier.create(adapter.deleteAllByIdIn(Arrays.asList(1L, null)))
+                .expectNext(1L)
+                .verifyComplete();
+        load(1L);
+
+        verify(delegate, times(2)).findAllByIdIn(List.of(1L));
+    }
+
+    @Test
+    void disposeStopsListeningForChanges() {
+        load(1L);
+
+        adapter.dispose();
+
+        assertThat(adapter.isDisposed()).isTrue();
+        assertThat(changePort.hasSubscribers()).isFalse();
+    }
+
+    private void load(Long id) {
+        StepVerifier.create(adapter.findAllByIdIn(List.of(id)))
+                .expectNext(technology(id))
+                .verifyComplete();
+    }
+
+    private static Technology technology(Long id) {
+        return new Technology(id, "Technology " + id, "Description " + id);
+    }
+
+    // Sustituye a la tabla technology_changes y a su listener: los cambios se emiten a mano desde cada test
+    private static final class FakeTechnologyChangePort implements TechnologyChangePort {
+
+        private final Sinks.Many<TechnologyChange> changes = Sinks.many().multicast().directBestEffort();
+        private final List<TechnologyChange> stored = new CopyOnWriteArrayList<>();
+
+        void emit(TechnologyChange change) {
+            storeWithoutNotifying(change);
+            changes.tryEmitNext(change);
+        }
+
+        void storeWithoutNotifying(TechnologyChange change) {
+            stored.add(change);
+        }
+
+        boolean hasSubscribers() {
+            return changes.currentSubscriberCount() > 0;
+        }
+
+        @Override
+        public Flux<TechnologyChange> findChangesAfter(long seq) {
+            return Flux.fromIterable(stored)
+                    .filter(change -> change.seq() > seq)
+                    .sort(Comparator.comparingLong(TechnologyChange::seq));
+        }
+
+        @Override
+        public Mono<Long> findLastSeq() {
+            return Mono.just(0L);
+        }
+
+        @Override
+        public Mono<Long> findFirstSeq() {
+            return Mono.just(0L);
+        }
+
+        @Override
+        public Flux<TechnologyChange> listenChanges() {
+            return changes.asFlux();
+        }
+    }
+}
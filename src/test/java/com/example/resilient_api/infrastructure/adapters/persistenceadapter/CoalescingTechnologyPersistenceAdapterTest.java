@@ -0,0 +1,110 @@
+package com.example.resilient_api.infrastructure.adapters.persistenceadapter;
+
+import com.example.resilient_api.domain.model.Technology;
+import com.example.resilient_api.domain.spi.TechnologyPersistencePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class CoalescingTechnologyPersistenceAdapterTest {
+
+    // Una ventana muy larga: si un test termina, el lote salió por tamaño o por estar inactivo, no por el temporizador
+    private static final Duration LONG_WINDOW = Duration.ofHours(1);
+
+    private TechnologyPersistencePort delegate;
+    private Sinks.One<Technology> heldQuery;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(TechnologyPersistencePort.class);
+        when(delegate.findAllByIdIn(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return Flux.fromIterable(ids).map(CoalescingTechnologyPersistenceAdapterTest::technology);
+        });
+        heldQuery = Sinks.one();
+        doReturn(heldQuery.asMono().flux()).when(delegate).findAllByIdIn(List.of(99L));
+    }
+
+    @Test
+    void idleRequestIsDispatchedWithoutWaitingForTheWindow() {
+        CoalescingTechnologyPersistenceAdapter adapter = new CoalescingTechnologyPersistenceAdapter(delegate, 100, LONG_WINDOW);
+
+        StepVerifier.create(adapter.findAllByIdIn(List.of(1L, 2L)))
+                .expectNext(technology(1L), technology(2L))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void splitsRequestsLargerThanMaxBatchSize() {
+        CoalescingTechnologyPersistenceAdapter adapter = new CoalescingTechnologyPersistenceAdapter(delegate, 2, LONG_WINDOW);
+
+        StepVerifier.create(adapter.findAllByIdIn(List.of(1L, 2L, 3L, 4L, 5L)))
+                .expectNext(technology(1L), technology(2L), technology(3L), technology(4L), technology(5L))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        verify(delegate).findAllByIdIn(List.of(1L, 2L));
+        verify(delegate).findAllByIdIn(List.of(3L, 4L));
+        verify(delegate).findAllByIdIn(List.of(5L));
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void deduplicatesIdsAcrossRequestsWaitingOnTheSameBatch() throws Exception {
+        CoalescingTechnologyPersistenceAdapter adapter = new CoalescingTechnologyPersistenceAdapter(delegate, 100, LONG_WINDOW);
+        CompletableFuture<List<Technology>> held = adapter.findAllByIdIn(List.of(99L)).collectList().toFuture();
+
+        // Con una consulta en curso las siguientes peticiones comparten el lote abierto
+        CompletableFuture<List<Technology>> first = adapter.findAllByIdIn(List.of(1L, 2L)).collectList().toFuture();
+        CompletableFuture<List<Technology>> second = adapter.findAllByIdIn(List.of(2L, 3L)).collectList().toFuture();
+        heldQuery.tryEmitValue(technology(99L));
+
+        assertThat(held.get(5, TimeUnit.SECONDS)).containsExactly(technology(99L));
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(technology(1L), technology(2L));
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly(technology(2L), technology(3L));
+        verify(delegate).findAllByIdIn(List.of(99L));
+        verify(delegate).findAllByIdIn(List.of(1L, 2L, 3L));
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    void batchErrorReachesEveryWaitingRequest() {
+        CoalescingTechnologyPersistenceAdapter adapter = new CoalescingTechnologyPersistenceAdapter(delegate, 100, LONG_WINDOW);
+        IllegalStateException failure = new IllegalStateException("connection reset");
+        doReturn(Flux.error(failure)).when(delegate).findAllByIdIn(List.of(1L, 2L));
+        adapter.findAllByIdIn(List.of(99L)).subscribe();
+
+        CompletableFuture<List<Technology>> first = adapter.findAllByIdIn(List.of(1L)).collectList().toFuture();
+        CompletableFuture<List<Technology>> second = adapter.findAllByIdIn(List.of(2L)).collectList().toFuture();
+        heldQuery.tryEmitValue(technology(99L));
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+    }
+
+    private static Technology technology(Long id) {
+        return new Technology(id, "Technology " + id, "Description " + id);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.resilient_api.infrastructure.adapters.persistenceadapter;
+
+import com.example.resilient_api.domain.model.TechnologyReferenceCount;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.entity.TechnologyReferenceCountEntity;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.mapper.TechnologyEntityMapper;
+import com.example.resilient_api.infrastructure.adapters.persistenceadapter.repository.TechnologyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TechnologyPersistenceAdapterTest {
+
+    private TechnologyRepository technologyRepository;
+    private TechnologyPersistenceAdapter adapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        technologyRepository = mock(TechnologyRepository.class);
+        TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+        when(transactionalOperator.transactional(any(Flux.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        adapter = new TechnologyPersistenceAdapter(technologyRepository, mock(TechnologyEntityMapper.class),
+                transactionalOperator);
+    }
+
+    @Test
+    void incrementOnlyAdjustmentDoesNotIssueADelete() {
+        when(technologyRepository.addReferenceDeltas(any(), any())).thenReturn(Flux.just(
+                new TechnologyReferenceCountEntity(1L, 1, 0),
+                new TechnologyReferenceCountEntity(2L, 3, 2)));
+
+        StepVerifier.create(adapter.applyReferenceDeltas(deltas(Map.of(1L, 1, 2L, 1))))
+                .expectNext(new TechnologyReferenceCount(1L, 1, false))
+                .expectNext(new TechnologyReferenceCount(2L, 3, false))
+                .verifyComplete();
+
+        // Sin DELETE no se registra ningún cambio, así que la versión del catálogo (y los ETag) no avanza
+        verify(technologyRepository, never()).deleteUnreferencedByIdIn(any());
+    }
+
+    @Test
+    void deletesOnlyTechnologiesLeftWithoutReferences() {
+        when(technologyRepository.addReferenceDeltas(any(), any())).thenReturn(Flux.just(
+                new TechnologyReferenceCountEntity(1L, 0, 1),
+                new TechnologyReferenceCountEntity(2L, 2, 3)));
+        when(technologyRepository.deleteUnreferencedByIdIn(aryEq(new Long[]{1L}))).thenReturn(Flux.just(1L));
+
+        StepVerifier.create(adapter.applyReferenceDeltas(deltas(Map.of(1L, -1, 2L, -1))))
+                .expectNext(new TechnologyReferenceCount(1L, 0, true))
+                .expectNext(new TechnologyReferenceCount(2L, 2, false))
+                .verifyComplete();
+
+        verify(technologyRepository).deleteUnreferencedByIdIn(aryEq(new Long[]{1L}));
+    }
+
+    @Test
+    void decrementOfAnUnreferencedTechnologyDoesNotDeleteIt() {
+        // La fila ya estaba en 0 (anterior a ref_count o nunca incrementada) y el UPDATE la deja en 0
+        when(technologyRepository.addReferenceDeltas(any(), any())).thenReturn(Flux.just(
+                new TechnologyReferenceCountEntity(1L, 0, 0)));
+
+        StepVerifier.create(adapter.applyReferenceDeltas(deltas(Map.of(1L, -1))))
+                .expectNext(new TechnologyReferenceCount(1L, 0, false))
+                .verifyComplete();
+
+        verify(technologyRepository, never()).deleteUnreferencedByIdIn(any());
+    }
+
+    @Test
+    void prefixUpperBoundIncrementsTheLastCodePoint() {
+        assertThat(TechnologyPersistenceAdapter.prefixUpperBound("Jav")).isEqualTo("Jaw");
+        assertThat(TechnologyPersistenceAdapter.prefixUpperBound("a\uD7FF")).isEqualTo("a\uE000");
+        assertThat(TechnologyPersistenceAdapter.prefixUpperBound("a" + Character.toString(Character.MAX_CODE_POINT)))
+                .isEqualTo("b");
+        assertThat(TechnologyPersistenceAdapter.prefixUpperBound(Character.toString(Character.MAX_CODE_POINT))).isNull();
+    }
+
+    private static Map<Long, Integer> deltas(Map<Long, Integer> deltasById) {
+        return new TreeMap<>(deltasById);
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.resilient_api.infrastructure.entrypoints.decoder;
+
+import com.example.resilient_api.domain.enums.TechnicalMessage;
+import com.example.resilient_api.domain.exceptions.BusinessException;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingIdsDecoderTest {
+
+    private final StreamingIdsDecoder decoder = new StreamingIdsDecoder(5, DataSize.ofKilobytes(1));
+
+    @Test
+    void decodesIdsSplitAcrossBuffers() {
+        List<long[]> chunks = decode(2, false, "{\"ids\":[12", "345,67", "890,", "3]}");
+
+        assertThat(chunks).containsExactly(new long[]{12345, 67890}, new long[]{3});
+    }
+
+    @Test
+    void ignoresWhitespaceBetweenTokens() {
+        List<long[]> chunks = decode(10, false, "  {\n  \"ids\" :\t[ 1 ,\r\n 2 ]\n}  ");
+
+        assertThat(chunks).containsExactly(new long[]{1, 2});
+    }
+
+    @Test
+    void emptyArrayAndEmptyBodyDecodeToNoChunks() {
+        assertThat(decode(10, false, "{\"ids\":[]}")).isEmpty();
+        assertThat(decode(10, false, "{\"ids\":null}")).isEmpty();
+        assertThat(decode(10, false)).isEmpty();
+    }
+
+    @Test
+    void distinctDropsRepeatedIdsAcrossChunks() {
+        List<long[]> chunks = decode(2, true, "{\"ids\":[0,-1,0,7,-1]}");
+
+        assertThat(chunks).containsExactly(new long[]{0, -1}, new long[]{7});
+    }
+
+    @Test
+    void keepsRepeatedIdsWithoutDistinct() {
+        List<long[]> chunks = decode(10, false, "{\"ids\":[4,4,4]}");
+
+        assertThat(chunks).containsExactly(new long[]{4, 4, 4});
+    }
+
+    @Test
+    void onlyReadsTheTopLevelIdsField() {
+        List<long[]> chunks = decode(10, false,
+                "{\"filter\":{\"ids\":[9,9]},\"ids\":[1,2],\"meta\":[{\"ids\":[8]}]}");
+
+        assertThat(chunks).containsExactly(new long[]{1, 2});
+    }
+
+    @Test
+    void rejectsUnterminatedDocument() {
+        expectError(TechnicalMessage.INVALID_REQUEST, "{\"ids\":[1,", "2");
+    }
+
+    @Test
+    void rejectsSyntaxErrors() {
+        expectError(TechnicalMessage.INVALID_REQUEST, "{\"ids\":[1;2]}");
+        expectError(TechnicalMessage.INVALID_REQUEST, "[1,2]");
+    }
+
+    @Test
+    void rejectsNonNumericIds() {
+        expectError(TechnicalMessage.TECHNOLOGY_IDS_INVALID, "{\"ids\":[1,\"2\"]}");
+        expectError(TechnicalMessage.TECHNOLOGY_IDS_INVALID, "{\"ids\":[1.5]}");
+        expectError(TechnicalMessage.TECHNOLOGY_IDS_INVALID, "{\"ids\":{\"a\":1}}");
+    }
+
+    @Test
+    void rejectsIdsOutsideLongRange() {
+        expectError(TechnicalMessage.TECHNOLOGY_IDS_INVALID, "{\"ids\":[9223372036854775807,9223372036854775808]}");
+    }
+
+    @Test
+    void rejectsMoreIdsThanAllowed() {
+        expectError(TechnicalMessage.TECHNOLOGY_IDS_TOO_MANY, "{\"ids\":[1,2,3,4,5,6]}");
+    }
+
+    @Test
+    void rejectsBodiesOverTheSizeLimit() {
+        expectError(TechnicalMessage.REQUEST_BODY_TOO_LARGE, "{\"ids\":[" + " ".repeat(2048) + "]}");
+    }
+
+    @Test
+    void releasesEachConsumedBufferOnceWhenDecodingFails() {
+        NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+        List<NettyDataBuffer> buffers = Stream.of("{\"ids\":[1,", "\"2\",", "3]}")
+                .map(part -> bufferFactory.wrap(part.getBytes(StandardCharsets.UTF_8)))
+                .toList();
+        MockServerRequest request = MockServerRequest.builder()
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(Flux.fromIterable(buffers));
+
+        StepVerifier.create(decoder.decodeIdChunks(request, 10, false))
+                .expectError(BusinessException.class)
+                .verify();
+
+        assertThat(buffers.get(0).getNativeBuffer().refCnt()).isZero();
+        assertThat(buffers.get(1).getNativeBuffer().refCnt()).isZero();
+    }
+
+    @Test
+    void decodesCborBodies() throws Exception {
+        byte[] body = new CBORMapper().writeValueAsBytes(Map.of("ids", List.of(5, 6, 5)));
+
+        List<long[]> chunks = decoder.decodeIdChunks(cborRequest(body), 10, true)
+                .collectList()
+                .block();
+
+        assertThat(chunks).containsExactly(new long[]{5, 6});
+    }
+
+    @Test
+    void rejectsCborBodiesOverTheSizeLimit() throws Exception {
+        byte[] body = new CBORMapper().writeValueAsBytes(Map.of("ids", List.of(1), "padding", "x".repeat(2048)));
+
+        StepVerifier.create(decoder.decodeIdChunks(cborRequest(body), 10, false))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("technicalMessage")
+                        .isEqualTo(TechnicalMessage.REQUEST_BODY_TOO_LARGE))
+                .verify();
+    }
+
+    private List<long[]> decode(int chunkSize, boolean distinct, String... parts) {
+        return decoder.decodeIdChunks(request(parts), chunkSize, distinct)
+                .collectList()
+                .block();
+    }
+
+    private void expectError(TechnicalMessage expected, String... parts) {
+        StepVerifier.create(decoder.decodeIdChunks(request(parts), 10, false))
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(BusinessException.class)
+                        .extracting("technicalMessage")
+                        .isEqualTo(expected))
+                .verify();
+    }
+
+    private static MockServerRequest cborRequest(byte[] body) {
+        return MockServerRequest.builder()
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_CBOR_VALUE)
+                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+    }
+
+    private static MockServerRequest request(String... parts) {
+        Flux<DataBuffer> body = Flux.fromArray(parts)
+                .map(part -> DefaultDataBufferFactory.sharedInstance.wrap(part.getBytes(StandardCharsets.UTF_8)));
+        return MockServerRequest.builder()
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body);
+    }
+}
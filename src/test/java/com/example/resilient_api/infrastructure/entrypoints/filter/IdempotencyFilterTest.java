@@ -0,0 +1,176 @@
+package com.example.resilient_api.infrastructure.entrypoints.filter;
+
+import com.example.resilient_api.domain.model.JwtPayload;
+import com.example.resilient_api.infrastructure.adapters.idempotency.CapturedResponse;
+import com.example.resilient_api.infrastructure.adapters.idempotency.IdempotencyStore;
+import com.example.resilient_api.infrastructure.adapters.idempotency.InMemoryIdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.resilient_api.infrastructure.entrypoints.util.Constants.X_MESSAGE_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private static final String PATH = "/technology";
+    private static final String RESPONSE_BODY = "Technology created successfully";
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    // Lee el cuerpo completo, como los handlers reales, antes de responder
+    private final WebFilterChain chain = exchange -> exchange.getRequest().getBody()
+            .then(Mono.defer(() -> {
+                executions.incrementAndGet();
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.CREATED);
+                response.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+                return response.writeWith(Mono.just(response.bufferFactory()
+                        .wrap(RESPONSE_BODY.getBytes(StandardCharsets.UTF_8))));
+            }));
+
+    @Test
+    void retryWithTheSameBodyIsReplayedWithoutRunningTheHandler() {
+        IdempotencyFilter filter = filter(DataSize.ofKilobytes(1));
+        execute(filter, "message-1", "{\"name\":\"Java\"}");
+
+        MockServerWebExchange retry = execute(filter, "message-1", "{\"name\":\"Java\"}");
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getResponse().getHeaders().getFirst(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getResponse().getBodyAsString().block()).isEqualTo(RESPONSE_BODY);
+    }
+
+    @Test
+    void reusedMessageIdWithADifferentBodyIsRejected() {
+        IdempotencyFilter filter = filter(DataSize.ofKilobytes(1));
+        execute(filter, "message-2", "{\"name\":\"Java\"}");
+
+        MockServerWebExchange reused = execute(filter, "message-2", "{\"name\":\"Kotlin\"}");
+
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    void responsesOverTheCaptureLimitAreSentButNotStored() {
+        IdempotencyFilter filter = filter(DataSize.ofBytes(8));
+
+        MockServerWebExchange first = execute(filter, "message-3", "{\"name\":\"Java\"}");
+        execute(filter, "message-3", "{\"name\":\"Java\"}");
+
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo(RESPONSE_BODY);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void sameMessageIdFromAnotherClientIsNotReplayed() {
+        IdempotencyFilter filter = filter(DataSize.ofKilobytes(1));
+        execute(filter, "message-4", "{\"name\":\"Java\"}", user(1L));
+
+        MockServerWebExchange other = execute(filter, "message-4", "{\"name\":\"Java\"}", user(2L));
+
+        assertThat(executions).hasValue(2);
+        assertThat(other.getResponse().getHeaders().getFirst(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void keyClaimedByAnotherReplicaWaitsForItsStoredResponse() {
+        String body = "{\"name\":\"Java\"}";
+        CapturedResponse stored = new CapturedResponse(HttpStatus.CREATED.value(), MediaType.TEXT_PLAIN_VALUE,
+                RESPONSE_BODY.getBytes(StandardCharsets.UTF_8), sha256(body));
+        ClaimedElsewhereStore store = new ClaimedElsewhereStore(stored, 2);
+        IdempotencyFilter filter = new IdempotencyFilter(store, new SimpleMeterRegistry(), true, Set.of(PATH),
+                DataSize.ofKilobytes(1), DataSize.ofKilobytes(64), Duration.ofSeconds(1));
+
+        MockServerWebExchange retry = execute(filter, "message-5", body);
+
+        assertThat(executions).hasValue(0);
+        assertThat(store.lookups).hasValue(3);
+        assertThat(retry.getResponse().getHeaders().getFirst(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getResponse().getBodyAsString().block()).isEqualTo(RESPONSE_BODY);
+    }
+
+    private IdempotencyFilter filter(DataSize maxBodySize) {
+        return new IdempotencyFilter(new InMemoryIdempotencyStore(100, Duration.ofMinutes(1)),
+                new SimpleMeterRegistry(), true, Set.of(PATH), maxBodySize, DataSize.ofKilobytes(64),
+                Duration.ofSeconds(1));
+    }
+
+    private MockServerWebExchange execute(IdempotencyFilter filter, String messageId, String body) {
+        return execute(filter, messageId, body, null);
+    }
+
+    private MockServerWebExchange execute(IdempotencyFilter filter, String messageId, String body, Principal principal) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(PATH)
+                .header(X_MESSAGE_ID, messageId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body));
+        filter.filter(principal != null ? exchange.mutate().principal(Mono.just(principal)).build() : exchange, chain)
+                .block(Duration.ofSeconds(5));
+        return exchange;
+    }
+
+    private static Principal user(Long userId) {
+        return new UsernamePasswordAuthenticationToken(new JwtPayload(userId, userId + "@example.com", false), null,
+                List.of());
+    }
+
+    private static byte[] sha256(String body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // Otra réplica tiene la clave reservada y guarda su respuesta tras unas cuantas consultas
+    private static final class ClaimedElsewhereStore implements IdempotencyStore {
+
+        private final CapturedResponse stored;
+        private final int pendingLookups;
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        private ClaimedElsewhereStore(CapturedResponse stored, int pendingLookups) {
+            this.stored = stored;
+            this.pendingLookups = pendingLookups;
+        }
+
+        @Override
+        public Mono<Boolean> claim(String key) {
+            return Mono.just(false);
+        }
+
+        @Override
+        public Mono<CapturedResponse> find(String key) {
+            return Mono.fromSupplier(() -> lookups.incrementAndGet() > pendingLookups ? stored : null);
+        }
+
+        @Override
+        public Mono<Void> save(String key, CapturedResponse response) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> release(String key) {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.resilient_api.infrastructure.entrypoints.resilience;
+
+import com.example.resilient_api.domain.enums.TechnicalMessage;
+import com.example.resilient_api.domain.exceptions.TechnicalException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteResilienceTest {
+
+    private static final String ROUTE = "check-exists";
+
+    private CircuitBreaker circuitBreaker;
+    private RouteResilience routeResilience;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker("technology-db");
+        routeResilience = new RouteResilience(BulkheadRegistry.ofDefaults(),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(100)).build()),
+                RateLimiterRegistry.ofDefaults(), circuitBreakerRegistry);
+    }
+
+    @Test
+    void slowBodyBeforeThePortCallIsNotADatabaseTimeout() {
+        // La espera simula la lectura de un cuerpo lento, fuera del time limiter
+        Mono<Integer> request = Mono.delay(Duration.ofMillis(300))
+                .then(Mono.just(1).transform(routeResilience.portMono(ROUTE)))
+                .transform(routeResilience.admissionMono(ROUTE));
+
+        StepVerifier.create(request)
+                .expectNext(1)
+                .verifyComplete();
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+        assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void slowPortCallTimesOutAndCountsAsAFailure() {
+        Mono<Integer> request = Mono.delay(Duration.ofMillis(300))
+                .thenReturn(1)
+                .transform(routeResilience.portMono(ROUTE))
+                .transform(routeResilience.admissionMono(ROUTE));
+
+        StepVerifier.create(request)
+                .expectErrorSatisfies(ex -> assertThat(ex)
+                        .isInstanceOf(TechnicalException.class)
+                        .extracting("technicalMessage")
+                        .isEqualTo(TechnicalMessage.SERVICE_TIMEOUT))
+                .verify();
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+    }
+}